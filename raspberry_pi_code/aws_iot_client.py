@@ -6,7 +6,7 @@ import time
 import logging
 import os
 import asyncio
-from typing import Dict, Any, Callable
+from typing import Dict, Any, Callable, Optional
 from awscrt import io, mqtt, auth, http
 from awsiot import mqtt_connection_builder
 from awsiot.mqtt_connection import MqttConnection
@@ -151,8 +151,9 @@ class AWSIoTClient:
               logger.error(f"센서 데이터 발행 실패: {e}")
               return False
 
-      def publish_actuator_status(self, target: str, status: Dict[str, Any], device_id: str) -> bool:
-          """액추에이터 상태 발행"""
+      def publish_actuator_status(self, target: str, status: Dict[str, Any], device_id: str,
+                                  command_id: Optional[int] = None, error: Optional[str] = None) -> bool:
+          """액추에이터 상태 발행 (command_id 가 있으면 서버가 명령 수행 확인으로 처리)"""
           try:
               if not self.is_connected:
                   logger.error("AWS IoT Core에 연결되지 않았습니다.")
@@ -164,6 +165,11 @@ class AWSIoTClient:
                   "device_id": device_id,
                   "timestamp": int(time.time() * 1000)
               }
+              if command_id is not None:
+                  payload["command_id"] = command_id
+                  payload["result"] = "error" if error else "ok"
+                  if error:
+                      payload["error"] = error
 
               publish_future, _ = self.connection.publish(  # packet_id 제거
                   topic=topic,
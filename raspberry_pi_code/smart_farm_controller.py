@@ -160,7 +160,8 @@ class SmartFarmController:
                     'smartfarm/control/led/+',
                     'smartfarm/control/fan/+',
                     'smartfarm/control/pump/+',
-                    'smartfarm/control/heater/+'
+                    'smartfarm/control/heater/+',
+                    f'smartfarm/control/+/+/{self.device_id}'  # 이 장치만 대상으로 한 명령 (그룹 명령 등)
                 ]
 
                 for topic in control_topics:
@@ -254,16 +255,18 @@ class SmartFarmController:
 
             # 토픽에서 제어 정보 추출
             topic_parts = topic.split('/')
-            if len(topic_parts) < 4:  # smartfarm/control/{target}/{command}
+            if len(topic_parts) < 4:  # smartfarm/control/{target}/{command}[/{device_id}]
                 logger.warning(f"잘못된 제어 토픽 형식: {topic}")
                 return
 
             target = topic_parts[2]  # led, fan, pump, heater
             command = topic_parts[3]  # on, off, brightness, speed
+            command_id = data.get("command_id")  # 서버가 수행 확인을 기다리는 명령 ID
 
             # 액추에이터 찾기
             if target not in self.actuators:
                 logger.warning(f"존재하지 않는 액추에이터: {target}")
+                self._report_command_error(target, command_id, f"존재하지 않는 액추에이터: {target}")
                 return
 
             actuator = self.actuators[target]
@@ -275,19 +278,27 @@ class SmartFarmController:
                 success = actuator.execute_command('off')
             else:
                 logger.warning(f"지원하지 않는 명령: {command}")
+                self._report_command_error(target, command_id, f"지원하지 않는 명령: {command}")
                 return
 
+            # 상태 발행 (실패도 보고해야 서버가 응답 시간 초과까지 기다리지 않음)
+            status = actuator.get_state()
             if success:
-                # 상태 발행
-                status = actuator.get_state()
-                self.mqtt_client.publish_actuator_status(target, status, self.device_id)
+                self.mqtt_client.publish_actuator_status(target, status, self.device_id, command_id)
                 logger.info(f"{target} 제어 성공: {command}")
             else:
+                self.mqtt_client.publish_actuator_status(target, status, self.device_id, command_id,
+                                                         error=f"{target} 제어 실패: {command}")
                 logger.error(f"{target} 제어 실패: {command}")
 
         except Exception as e:
             logger.error(f"제어 명령 처리 중 오류: {e}")
 
+    def _report_command_error(self, target: str, command_id, error: str):
+        """수행할 수 없는 명령을 서버에 실패로 보고"""
+        if command_id is not None:
+            self.mqtt_client.publish_actuator_status(target, {}, self.device_id, command_id, error=error)
+
     def _cleanup(self):
         """정리 작업"""
         try:
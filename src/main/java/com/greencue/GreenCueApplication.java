@@ -1,6 +1,11 @@
 package com.greencue;
 
+import com.greencue.shared.config.ControlProperties;
 import com.greencue.shared.config.MqttProperties;
+import com.greencue.shared.config.RateLimitProperties;
+import com.greencue.shared.config.SensorProperties;
+import com.greencue.shared.config.SseProperties;
+import com.greencue.shared.config.ThreadingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -8,7 +13,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
-@EnableConfigurationProperties(MqttProperties.class)
+@EnableConfigurationProperties({MqttProperties.class, SensorProperties.class, ControlProperties.class,
+        SseProperties.class, ThreadingProperties.class, RateLimitProperties.class})
 public class GreenCueApplication {
 
     public static void main(String[] args) {
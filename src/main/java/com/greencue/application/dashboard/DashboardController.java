@@ -0,0 +1,50 @@
+package com.greencue.application.dashboard;
+
+import com.greencue.application.dashboard.dto.DashboardSnapshot;
+import com.greencue.shared.common.dto.ApiResponse;
+import com.greencue.shared.infrastructure.sse.SseEventHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardStream dashboardStream;
+    private final SseEventHub sseEventHub;
+
+    // STOMP /app/dashboard 구독 시 스냅샷을 구독한 세션에만 바로 응답 (이후 변경분은 /topic/dashboard)
+    @SubscribeMapping("/dashboard")
+    public DashboardSnapshot subscribeSnapshot() {
+        return dashboardStream.snapshot();
+    }
+
+    // 스냅샷 조회 - WebSocket 이 아닌 클라이언트의 초기화/재동기화용
+    @GetMapping("/snapshot")
+    public ResponseEntity<ApiResponse<DashboardSnapshot>> getSnapshot() {
+        return ResponseEntity.ok(ApiResponse.success(dashboardStream.snapshot(), "대시보드 스냅샷을 조회했습니다."));
+    }
+
+    // 실시간 센서(sensor) / 제어(control) 이벤트 SSE 스트림 - 재연결 시 Last-Event-ID 이후부터 이어서 전송
+    // (헤더를 직접 지정할 수 없는 클라이언트는 lastEventId 파라미터 사용, reset 이벤트를 받으면 스냅샷을 다시 조회)
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        SseEmitter emitter = sseEventHub.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
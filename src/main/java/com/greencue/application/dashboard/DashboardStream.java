@@ -0,0 +1,137 @@
+package com.greencue.application.dashboard;
+
+import com.greencue.application.dashboard.dto.DashboardDelta;
+import com.greencue.application.dashboard.dto.DashboardSnapshot;
+import com.greencue.domain.control.api.dto.ActuatorStateResponse;
+import com.greencue.domain.control.state.ActuatorStateRegistry;
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.storage.SensorLatestRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 대시보드 스냅샷 + 변경분 스트림
+ * - 주기마다 센서 최신 값 / 액추에이터 상태 레지스트리를 직전 전송 내용과 비교하여 바뀐 값만 /topic/dashboard 로 전송
+ * - 변경분마다 seq 를 1씩 증가 - 클라이언트는 seq 가 건너뛰면 스냅샷을 다시 받아 복구
+ * - 스냅샷은 마지막으로 전송한 변경분까지를 합친 상태이므로 seq 이하의 변경분은 버리면 됨
+ * - 클라이언트 순서: /topic/dashboard 구독 → /app/dashboard 구독(스냅샷 수신) → seq 이후 변경분 적용
+ * - 레지스트리 버전이 그대로면 비교 없이 건너뜀
+ */
+@Component
+@Slf4j
+public class DashboardStream {
+
+    public static final String DELTA_DESTINATION = "/topic/dashboard";
+
+    private static final Comparator<SensorDataResponse> SENSOR_ORDER =
+            Comparator.comparing(SensorDataResponse::deviceId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(SensorDataResponse::type);
+    private static final Comparator<ActuatorStateResponse> ACTUATOR_ORDER =
+            Comparator.comparing(ActuatorStateResponse::deviceId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ActuatorStateResponse::target);
+
+    private final SensorLatestRegistry sensorLatestRegistry;
+    private final ActuatorStateRegistry actuatorStateRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 아래 상태는 모두 this 잠금으로 보호 - 전송한 내용과 seq 가 항상 함께 바뀜
+    private final Map<SensorKey, SensorDataResponse> sentSensors = new HashMap<>();
+    private final Map<ActuatorKey, ActuatorStateResponse> sentActuators = new HashMap<>();
+    private long seq;
+    private long sensorVersion = -1;
+    private long actuatorVersion = -1;
+
+    public DashboardStream(SensorLatestRegistry sensorLatestRegistry,
+                           ActuatorStateRegistry actuatorStateRegistry,
+                           SimpMessagingTemplate messagingTemplate) {
+        this.sensorLatestRegistry = sensorLatestRegistry;
+        this.actuatorStateRegistry = actuatorStateRegistry;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * 마지막으로 전송한 변경분(seq)까지 반영된 전체 상태
+     */
+    public synchronized DashboardSnapshot snapshot() {
+        List<SensorDataResponse> sensors = new ArrayList<>(sentSensors.values());
+        sensors.sort(SENSOR_ORDER);
+        List<ActuatorStateResponse> actuators = new ArrayList<>(sentActuators.values());
+        actuators.sort(ACTUATOR_ORDER);
+        return new DashboardSnapshot(seq, sensors, actuators);
+    }
+
+    @Scheduled(fixedDelayString = "${sensor.stream.interval:500}")
+    public synchronized void flush() {
+        long currentSensorVersion = sensorLatestRegistry.version();
+        long currentActuatorVersion = actuatorStateRegistry.version();
+        if (currentSensorVersion == sensorVersion && currentActuatorVersion == actuatorVersion) {
+            return;
+        }
+
+        try {
+            List<DashboardDelta.SensorChange> sensorChanges = currentSensorVersion != sensorVersion
+                    ? diffSensors() : List.of();
+            List<ActuatorStateResponse> actuatorChanges = currentActuatorVersion != actuatorVersion
+                    ? diffActuators() : List.of();
+            sensorVersion = currentSensorVersion;
+            actuatorVersion = currentActuatorVersion;
+            if (sensorChanges.isEmpty() && actuatorChanges.isEmpty()) {
+                return;
+            }
+
+            seq++;
+            messagingTemplate.convertAndSend(DELTA_DESTINATION, new DashboardDelta(seq, sensorChanges, actuatorChanges));
+            log.debug("대시보드 변경분 전송: seq={}, 센서 {}건, 액추에이터 {}건", seq, sensorChanges.size(), actuatorChanges.size());
+        } catch (Exception e) {
+            log.warn("대시보드 변경분 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    // 레지스트리는 값이 바뀔 때 새 객체로 교체하므로 참조 비교로 충분
+    private List<DashboardDelta.SensorChange> diffSensors() {
+        List<DashboardDelta.SensorChange> changes = new ArrayList<>();
+        for (SensorDataResponse sample : sensorLatestRegistry.latestAll()) {
+            SensorDataResponse previous = sentSensors.put(new SensorKey(sample.deviceId(), sample.type()), sample);
+            if (previous != sample) {
+                changes.add(new DashboardDelta.SensorChange(
+                        sample.type(), sample.deviceId(), sample.sensorValue(), sample.createdAt()));
+            }
+        }
+        return changes;
+    }
+
+    // 바뀐 필드만 담아 전송
+    private List<ActuatorStateResponse> diffActuators() {
+        List<ActuatorStateResponse> changes = new ArrayList<>();
+        for (ActuatorStateResponse state : actuatorStateRegistry.values()) {
+            ActuatorStateResponse previous = sentActuators.put(new ActuatorKey(state.deviceId(), state.target()), state);
+            if (previous == state) {
+                continue;
+            }
+            Map<String, Object> changedFields = new LinkedHashMap<>();
+            state.state().forEach((field, value) -> {
+                if (previous == null || !Objects.equals(previous.state().get(field), value)) {
+                    changedFields.put(field, value);
+                }
+            });
+            changes.add(new ActuatorStateResponse(state.deviceId(), state.target(), changedFields, state.updatedAt()));
+        }
+        return changes;
+    }
+
+    private record SensorKey(String deviceId, String type) {
+    }
+
+    private record ActuatorKey(String deviceId, String target) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.greencue.application.dashboard.dto;
+
+import com.greencue.domain.control.api.dto.ActuatorStateResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대시보드 변경분 - 직전 변경분(seq - 1) 이후 바뀐 값만 포함
+ * - actuators 의 state 에는 바뀐 필드만 들어 있으므로 기존 상태에 병합
+ */
+public record DashboardDelta(
+        long seq,
+        List<SensorChange> sensors,
+        List<ActuatorStateResponse> actuators
+) {
+
+    // 센서 값 변경 - 단위 등 바뀌지 않는 필드는 스냅샷에만 포함
+    public record SensorChange(
+            String type,
+            String deviceId,
+            Float sensorValue,
+            LocalDateTime createdAt
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.greencue.application.dashboard.dto;
+
+import com.greencue.domain.control.api.dto.ActuatorStateResponse;
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+
+import java.util.List;
+
+/**
+ * 대시보드 스냅샷 - seq 까지의 변경분이 모두 반영된 전체 상태
+ */
+public record DashboardSnapshot(
+        long seq,
+        List<SensorDataResponse> sensors,
+        List<ActuatorStateResponse> actuators
+) {
+}
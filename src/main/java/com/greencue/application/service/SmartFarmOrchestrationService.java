@@ -7,7 +7,6 @@ import com.greencue.domain.automation.service.AutomationRuleService;
 import com.greencue.domain.control.service.ControlCommandService;
 import com.greencue.domain.control.exception.InvalidControlCommandException;
 import com.greencue.application.exception.SmartFarmOrchestrationException;
-import com.greencue.shared.infrastructure.mqtt.MqttControlService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,7 +24,6 @@ public class SmartFarmOrchestrationService {
     
     private final AutomationRuleService automationRuleService;
     private final ControlCommandService controlCommandService;
-    private final MqttControlService mqttControlService;
 
     /**
      * 센서 데이터 수신 시 자동화 규칙 실행
@@ -61,12 +59,9 @@ public class SmartFarmOrchestrationService {
         log.info("자동화 규칙 실행: {} (센서 데이터: {})", rule.getId(), sensorData.getId());
         
         try {
-            // 1. 제어 명령 생성 및 저장
+            // 제어 명령을 아웃박스에 기록 - MQTT 발행은 커밋 후 릴레이가 수행
             ControlCommand command = controlCommandService.createFromAutomationRule(rule);
             
-            // 2. MQTT를 통한 실제 장치 제어
-            mqttControlService.sendControlCommand(command);
-            
             log.info("자동화 규칙 실행 완료: 규칙 ID={}, 명령 ID={}", rule.getId(), command.getId());
             
         } catch (Exception e) {
@@ -83,12 +78,9 @@ public class SmartFarmOrchestrationService {
         log.info("수동 제어 명령 실행: {} {} {}", target, command, value);
         
         try {
-            // 1. 제어 명령 생성 및 저장
+            // 제어 명령을 아웃박스에 기록 - MQTT 발행은 커밋 후 릴레이가 수행
             ControlCommand controlCommand = controlCommandService.createManualCommand(target, command, value);
             
-            // 2. MQTT를 통한 실제 장치 제어
-            mqttControlService.sendControlCommand(controlCommand);
-            
             log.info("수동 제어 명령 실행 완료: 명령 ID={}", controlCommand.getId());
             return controlCommand;
             
@@ -1,8 +1,11 @@
 package com.greencue.domain.automation.repository;
 
+import com.greencue.domain.automation.api.dto.AutomationRuleResponse;
 import com.greencue.domain.automation.model.AutomationRule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -12,6 +15,12 @@ public interface AutomationRuleRepository extends JpaRepository<AutomationRule,
     // 활성화된 규칙 조회
     List<AutomationRule> findByIsActiveTrue();
 
+    // 활성화된 규칙 조회 - 응답 레코드로 바로 조회 (조회 API 용)
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.greencue.domain.automation.api.dto.AutomationRuleResponse(" +
+            "r.id, r.condition, r.action, r.createdAt, r.isActive) FROM AutomationRule r WHERE r.isActive = true")
+    List<AutomationRuleResponse> findActiveRuleResponses();
+
     // 조건에 따른 규칙 조회
     List<AutomationRule> findByConditionContainingAndIsActiveTrue(String condition);
 }
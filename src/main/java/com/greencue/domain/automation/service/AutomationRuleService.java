@@ -34,10 +34,7 @@ public class AutomationRuleService {
 
     // 활성화된 규칙 조회
     public List<AutomationRuleResponse> getActiveRules() {
-        List<AutomationRule> rules = automationRuleRepository.findByIsActiveTrue();
-        return rules.stream()
-                .map(AutomationRuleResponse::fromEntity)
-                .toList();
+        return automationRuleRepository.findActiveRuleResponses();
     }
 
     // 규칙 활성화/비활성화
@@ -0,0 +1,186 @@
+package com.greencue.domain.control.ack;
+
+import com.greencue.domain.control.api.dto.ControlCommandResponse;
+import com.greencue.domain.control.api.dto.ControlLatencyResponse;
+import com.greencue.domain.control.model.CommandPriority;
+import com.greencue.domain.control.model.CommandStatus;
+import com.greencue.domain.control.model.ControlCommand;
+import com.greencue.domain.control.service.ControlCommandVersions;
+import com.greencue.shared.config.ControlProperties;
+import com.greencue.shared.infrastructure.sse.SseEventHub;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 장치 확인(ACK) 기반 제어 명령 추적
+ * - 장치가 상태 토픽으로 보낸 command_id 로 명령을 ACKED/FAILED 로 확정하고 대상별 지연 시간을 기록
+ * - 지연 시간은 명령 생성부터 장치 확인까지(end-to-end)와 MQTT 발행부터 장치 확인까지(device) 두 가지
+ * - 발행 후 제한 시간 안에 확인이 없으면 TIMED_OUT 으로 표시 (늦게 도착한 확인은 ACKED 로 다시 확정)
+ * - 상태는 모두 DB 에서 조건부 UPDATE 로 바꾸므로 확인이 다른 인스턴스에 도착해도 중복 처리되지 않음
+ */
+@Component
+@Slf4j
+public class CommandAckTracker {
+
+    private static final String ACK_SQL =
+            "UPDATE control_command SET status = ?, acked_at = ?, last_error = ? " +
+                    "WHERE id = ? AND status IN ('PENDING', 'SENDING', 'DELIVERED', 'TIMED_OUT') " +
+                    "RETURNING id, target, command, command_value, created_at, rule_id, device_id, priority, status, delivered_at, acked_at";
+    private static final String TIMEOUT_SQL =
+            "UPDATE control_command SET status = 'TIMED_OUT', last_error = ? " +
+                    "WHERE status = 'DELIVERED' AND delivered_at < ? " +
+                    "RETURNING id, target, command, command_value, created_at, rule_id, device_id, priority, status, delivered_at, acked_at";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SseEventHub sseEventHub;
+    private final ControlCommandVersions commandVersions;
+    private final ControlProperties.Ack config;
+    private final Map<String, TargetLatency> latencies = new ConcurrentHashMap<>();
+
+    public CommandAckTracker(JdbcTemplate jdbcTemplate,
+                             SimpMessagingTemplate messagingTemplate,
+                             SseEventHub sseEventHub,
+                             ControlCommandVersions commandVersions,
+                             ControlProperties controlProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.sseEventHub = sseEventHub;
+        this.commandVersions = commandVersions;
+        this.config = controlProperties.getAck();
+    }
+
+    /**
+     * 장치 확인 처리 - 이미 확정된 명령이거나 없는 명령이면 false
+     */
+    public boolean acknowledge(long commandId, boolean success, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        CommandStatus status = success ? CommandStatus.ACKED : CommandStatus.FAILED;
+        List<ControlCommand> updated = jdbcTemplate.query(ACK_SQL, COMMAND_MAPPER,
+                status.name(), Timestamp.valueOf(now), success ? null : truncate(error), commandId);
+        if (updated.isEmpty()) {
+            log.debug("이미 확정되었거나 없는 명령의 확인 무시: 명령 ID={}", commandId);
+            return false;
+        }
+
+        ControlCommand command = updated.get(0);
+        TargetLatency latency = latencyOf(command.getTarget());
+        if (command.getCreatedAt() != null) {
+            latency.endToEnd.record(Duration.between(command.getCreatedAt(), now).toMillis());
+        }
+        if (command.getDeliveredAt() != null) {
+            latency.device.record(Duration.between(command.getDeliveredAt(), now).toMillis());
+        }
+        if (!success) {
+            latency.failures.incrementAndGet();
+        }
+
+        publishStatus(command);
+        if (success) {
+            log.info("제어 명령 장치 확인: {} {} (명령 ID={})", command.getTarget(), command.getCommand(), commandId);
+        } else {
+            log.warn("제어 명령 장치 실행 실패: {} {} (명령 ID={}, {})",
+                    command.getTarget(), command.getCommand(), commandId, error);
+        }
+        return true;
+    }
+
+    // 발행 후 제한 시간 안에 확인되지 않은 명령을 TIMED_OUT 으로 표시
+    @Scheduled(fixedDelayString = "${control.ack.sweep-interval:5000}")
+    public void sweepTimeouts() {
+        try {
+            LocalDateTime deadline = LocalDateTime.now().minus(config.getTimeout());
+            List<ControlCommand> timedOut = jdbcTemplate.query(TIMEOUT_SQL, COMMAND_MAPPER,
+                    "장치 응답 없음 (" + config.getTimeout().toSeconds() + "초)", Timestamp.valueOf(deadline));
+            for (ControlCommand command : timedOut) {
+                latencyOf(command.getTarget()).timeouts.incrementAndGet();
+                publishStatus(command);
+                log.warn("제어 명령 장치 응답 시간 초과: {} {} (명령 ID={})",
+                        command.getTarget(), command.getCommand(), command.getId());
+            }
+        } catch (Exception e) {
+            log.error("제어 명령 응답 시간 초과 확인 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대상별 지연 시간 통계 (애플리케이션 기동 이후 누적)
+     */
+    public List<ControlLatencyResponse> getLatencies() {
+        return latencies.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .toList();
+    }
+
+    private TargetLatency latencyOf(String target) {
+        return latencies.computeIfAbsent(target.toLowerCase(Locale.ROOT), k -> new TargetLatency());
+    }
+
+    private void publishStatus(ControlCommand command) {
+        commandVersions.changed(command.getTarget());
+        ControlCommandResponse response = ControlCommandResponse.fromEntity(command);
+        messagingTemplate.convertAndSend("/topic/control-command", response);
+        sseEventHub.publish("control", response);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return "장치 실행 실패";
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static final RowMapper<ControlCommand> COMMAND_MAPPER = (rs, rowNum) -> {
+        float value = rs.getFloat("command_value");
+        Float commandValue = rs.wasNull() ? null : value;
+        return ControlCommand.builder()
+                .id(rs.getLong("id"))
+                .target(rs.getString("target"))
+                .command(rs.getString("command"))
+                .commandValue(commandValue)
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .ruleId(rs.getObject("rule_id", Long.class))
+                .deviceId(rs.getString("device_id"))
+                .priority(CommandPriority.values()[rs.getInt("priority")])
+                .status(CommandStatus.valueOf(rs.getString("status")))
+                .deliveredAt(toLocalDateTime(rs.getTimestamp("delivered_at")))
+                .ackedAt(toLocalDateTime(rs.getTimestamp("acked_at")))
+                .build();
+    };
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static class TargetLatency {
+        private final LatencyHistogram endToEnd = new LatencyHistogram();
+        private final LatencyHistogram device = new LatencyHistogram();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        ControlLatencyResponse toResponse(String target) {
+            return new ControlLatencyResponse(
+                    target,
+                    endToEnd.count(),
+                    failures.get(),
+                    timeouts.get(),
+                    ControlLatencyResponse.Percentiles.of(endToEnd),
+                    ControlLatencyResponse.Percentiles.of(device));
+        }
+    }
+}
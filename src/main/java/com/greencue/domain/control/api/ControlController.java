@@ -1,11 +1,17 @@
 package com.greencue.domain.control.api;
 
+import com.greencue.domain.control.ack.CommandAckTracker;
 import com.greencue.domain.control.api.dto.ControlCommandRequest;
 import com.greencue.domain.control.api.dto.ControlCommandResponse;
+import com.greencue.domain.control.api.dto.ControlLatencyResponse;
+import com.greencue.domain.control.model.CommandStatus;
 import com.greencue.domain.control.service.ControlCommandService;
+import com.greencue.domain.control.service.ControlCommandVersions;
 import com.greencue.shared.common.dto.ApiResponse;
+import com.greencue.shared.infrastructure.web.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,6 +25,9 @@ import java.util.List;
 public class ControlController {
 
     private final ControlCommandService controlCommandService;
+    private final CommandAckTracker commandAckTracker;
+    private final ControlCommandVersions commandVersions;
+    private final SerializedResponseCache responseCache;
 
     // 제어 명령 실행
     @PostMapping("/command")
@@ -50,13 +59,16 @@ public class ControlController {
         return ResponseEntity.ok(ApiResponse.success(command, message));
     }
 
-    // 타겟별 최근 명령 조회
+    // 타겟별 최근 명령 조회 - 해당 타겟 명령이 추가/변경되지 않았으면 조회 없이 304
     @GetMapping("/{target}/recent")
-    public ResponseEntity<ApiResponse<List<ControlCommandResponse>>> getRecentCommandsByTarget(
+    public ResponseEntity<byte[]> getRecentCommandsByTarget(
             @PathVariable String target,
-            @RequestParam(defaultValue = "10") int limit) {
-        List<ControlCommandResponse> commands = controlCommandService.getRecentCommandsByTarget(target, limit);
-        return ResponseEntity.ok(ApiResponse.success(commands, "최근 제어 명령을 조회했습니다."));
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int resolvedLimit = controlCommandService.resolveRecentLimit(limit);
+        return responseCache.conditional(ifNoneMatch, "control:recent:" + target + ":" + resolvedLimit,
+                commandVersions.version(target),
+                () -> ApiResponse.success(controlCommandService.getRecentCommandsByTarget(target, resolvedLimit), "최근 제어 명령을 조회했습니다."));
     }
 
     // 규칙에 의한 명령 조회
@@ -66,6 +78,22 @@ public class ControlController {
         return ResponseEntity.ok(ApiResponse.success(commands, "규칙에 의한 제어 명령을 조회했습니다."));
     }
 
+    // 전달 상태별 최근 명령 조회 (확인 대기 중인 명령은 status=DELIVERED)
+    @GetMapping("/commands")
+    public ResponseEntity<ApiResponse<List<ControlCommandResponse>>> getCommandsByStatus(
+            @RequestParam CommandStatus status,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<ControlCommandResponse> commands = controlCommandService.getRecentCommandsByStatus(status, limit);
+        return ResponseEntity.ok(ApiResponse.success(commands, "상태별 제어 명령을 조회했습니다."));
+    }
+
+    // 대상별 명령 확인 지연 시간 통계
+    @GetMapping("/latency")
+    public ResponseEntity<ApiResponse<List<ControlLatencyResponse>>> getCommandLatencies() {
+        List<ControlLatencyResponse> latencies = commandAckTracker.getLatencies();
+        return ResponseEntity.ok(ApiResponse.success(latencies, "제어 명령 지연 시간을 조회했습니다."));
+    }
+
     // 제어 대상 목록 조회
     @GetMapping("/targets")
     public ResponseEntity<ApiResponse<List<String>>> getControlTargets() {
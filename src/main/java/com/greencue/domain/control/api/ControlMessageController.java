@@ -0,0 +1,56 @@
+package com.greencue.domain.control.api;
+
+import com.greencue.domain.control.api.dto.ControlCommandReply;
+import com.greencue.domain.control.api.dto.ControlCommandRequest;
+import com.greencue.domain.control.service.ControlCommandService;
+import com.greencue.shared.common.exception.DomainException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+/**
+ * STOMP 제어 명령 처리
+ * - /app/control/command 로 보낸 명령을 REST(/api/control/command)와 같은 경로로 접수
+ * - 접수 결과는 보낸 세션에만 /user/queue/control-reply 로 응답 (request-id 헤더로 요청과 응답을 짝지음)
+ * - 이후 전달/확인 상태는 기존대로 /topic/control-command 로 전송
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class ControlMessageController {
+
+    private static final String REQUEST_ID_HEADER = "request-id";
+    private static final String REPLY_DESTINATION = "/queue/control-reply";
+
+    private final ControlCommandService controlCommandService;
+
+    @MessageMapping("/control/command")
+    @SendToUser(destinations = REPLY_DESTINATION, broadcast = false)
+    public ControlCommandReply executeCommand(@Payload ControlCommandRequest request,
+                                              @Header(name = REQUEST_ID_HEADER, required = false) String requestId) {
+        return ControlCommandReply.success(requestId, controlCommandService.executeCommand(request));
+    }
+
+    // 도메인 예외 - 잘못된 명령
+    @MessageExceptionHandler(DomainException.class)
+    @SendToUser(destinations = REPLY_DESTINATION, broadcast = false)
+    public ControlCommandReply handleDomainException(DomainException e,
+                                                     @Header(name = REQUEST_ID_HEADER, required = false) String requestId) {
+        log.warn("STOMP 제어 명령 예외: {}", e.getMessage());
+        return ControlCommandReply.error(requestId, e.getMessage(), e.getErrorCode());
+    }
+
+    // 예상하지 못한 예외 (본문 파싱 실패 등)
+    @MessageExceptionHandler(Exception.class)
+    @SendToUser(destinations = REPLY_DESTINATION, broadcast = false)
+    public ControlCommandReply handleException(Exception e,
+                                               @Header(name = REQUEST_ID_HEADER, required = false) String requestId) {
+        log.error("STOMP 제어 명령 처리 실패", e);
+        return ControlCommandReply.error(requestId, "제어 명령을 처리하지 못했습니다.", "INTERNAL_SERVER_ERROR");
+    }
+}
@@ -0,0 +1,53 @@
+package com.greencue.domain.control.api;
+
+import com.greencue.domain.control.api.dto.ControlScheduleRequest;
+import com.greencue.domain.control.api.dto.ControlScheduleResponse;
+import com.greencue.domain.control.service.ControlScheduleService;
+import com.greencue.shared.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/control/schedules")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ControlScheduleController {
+
+    private final ControlScheduleService controlScheduleService;
+
+    // 예약 제어 생성
+    @PostMapping
+    public ResponseEntity<ApiResponse<ControlScheduleResponse>> createSchedule(@RequestBody ControlScheduleRequest schedule) {
+        ControlScheduleResponse created = controlScheduleService.createSchedule(schedule);
+        return ResponseEntity.ok(ApiResponse.success(created, "예약 제어가 성공적으로 생성되었습니다."));
+    }
+
+    // 예약 제어 목록 조회
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ControlScheduleResponse>>> getSchedules() {
+        List<ControlScheduleResponse> schedules = controlScheduleService.getSchedules();
+        return ResponseEntity.ok(ApiResponse.success(schedules, "예약 제어 목록을 조회했습니다."));
+    }
+
+    // 예약 활성화/비활성화
+    @PutMapping("/{scheduleId}/toggle")
+    public ResponseEntity<ApiResponse<ControlScheduleResponse>> toggleSchedule(
+            @PathVariable Long scheduleId,
+            @RequestParam boolean isActive) {
+        ControlScheduleResponse updated = controlScheduleService.toggleSchedule(scheduleId, isActive);
+        String message = isActive ? "예약이 활성화되었습니다." : "예약이 비활성화되었습니다.";
+        return ResponseEntity.ok(ApiResponse.success(updated, message));
+    }
+
+    // 예약 삭제
+    @DeleteMapping("/{scheduleId}")
+    public ResponseEntity<ApiResponse<Void>> deleteSchedule(@PathVariable Long scheduleId) {
+        controlScheduleService.deleteSchedule(scheduleId);
+        return ResponseEntity.ok(ApiResponse.success(null, "예약이 삭제되었습니다."));
+    }
+}
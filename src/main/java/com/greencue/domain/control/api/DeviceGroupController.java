@@ -0,0 +1,63 @@
+package com.greencue.domain.control.api;
+
+import com.greencue.domain.control.api.dto.DeviceGroupRequest;
+import com.greencue.domain.control.api.dto.DeviceGroupResponse;
+import com.greencue.domain.control.api.dto.GroupCommandRequest;
+import com.greencue.domain.control.api.dto.GroupCommandResponse;
+import com.greencue.domain.control.service.DeviceGroupService;
+import com.greencue.shared.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/control/groups")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class DeviceGroupController {
+
+    private final DeviceGroupService deviceGroupService;
+
+    // 장치 그룹 생성
+    @PostMapping
+    public ResponseEntity<ApiResponse<DeviceGroupResponse>> createGroup(@RequestBody DeviceGroupRequest group) {
+        DeviceGroupResponse created = deviceGroupService.createGroup(group);
+        return ResponseEntity.ok(ApiResponse.success(created, "장치 그룹이 생성되었습니다."));
+    }
+
+    // 장치 그룹 목록 조회
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DeviceGroupResponse>>> getGroups() {
+        List<DeviceGroupResponse> groups = deviceGroupService.getGroups();
+        return ResponseEntity.ok(ApiResponse.success(groups, "장치 그룹 목록을 조회했습니다."));
+    }
+
+    // 그룹 소속 장치 교체
+    @PutMapping("/{groupId}/devices")
+    public ResponseEntity<ApiResponse<DeviceGroupResponse>> updateDevices(
+            @PathVariable Long groupId,
+            @RequestBody List<String> deviceIds) {
+        DeviceGroupResponse updated = deviceGroupService.updateDevices(groupId, deviceIds);
+        return ResponseEntity.ok(ApiResponse.success(updated, "그룹 장치 목록이 변경되었습니다."));
+    }
+
+    // 장치 그룹 삭제
+    @DeleteMapping("/{groupId}")
+    public ResponseEntity<ApiResponse<Void>> deleteGroup(@PathVariable Long groupId) {
+        deviceGroupService.deleteGroup(groupId);
+        return ResponseEntity.ok(ApiResponse.success(null, "장치 그룹이 삭제되었습니다."));
+    }
+
+    // 그룹 전체에 제어 명령 실행 (예: zone-b 의 팬 모두 켜기)
+    @PostMapping("/{groupId}/command")
+    public ResponseEntity<ApiResponse<GroupCommandResponse>> executeGroupCommand(
+            @PathVariable Long groupId,
+            @RequestBody GroupCommandRequest command) {
+        GroupCommandResponse executed = deviceGroupService.executeGroupCommand(groupId, command);
+        return ResponseEntity.ok(ApiResponse.success(executed, "그룹 제어 명령이 접수되었습니다."));
+    }
+}
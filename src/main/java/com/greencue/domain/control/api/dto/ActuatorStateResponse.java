@@ -0,0 +1,12 @@
+package com.greencue.domain.control.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record ActuatorStateResponse(
+        String deviceId,
+        String target,
+        Map<String, Object> state,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.greencue.domain.control.api.dto;
+
+/**
+ * STOMP 제어 명령 응답 - requestId 는 클라이언트가 보낸 request-id 헤더 값 (없으면 null)
+ */
+public record ControlCommandReply(
+        String requestId,
+        boolean success,
+        ControlCommandResponse command,
+        String message,
+        String errorCode
+) {
+    public static ControlCommandReply success(String requestId, ControlCommandResponse command) {
+        return new ControlCommandReply(requestId, true, command, "제어 명령이 접수되었습니다.", null);
+    }
+
+    public static ControlCommandReply error(String requestId, String message, String errorCode) {
+        return new ControlCommandReply(requestId, false, null, message, errorCode);
+    }
+}
@@ -1,19 +1,27 @@
 package com.greencue.domain.control.api.dto;
 
+import com.greencue.domain.control.model.CommandPriority;
 import com.greencue.domain.control.model.ControlCommand;
 
 public record ControlCommandRequest(
         String target,
         String command,
         Float commandValue,
-        Long ruleId
+        Long ruleId,
+        String deviceId // 없으면 대상 전체(브로드캐스트)
 ) {
+    public ControlCommandRequest(String target, String command, Float commandValue, Long ruleId) {
+        this(target, command, commandValue, ruleId, null);
+    }
+
     public ControlCommand toEntity() {
         return ControlCommand.builder()
                 .target(target)
                 .command(command)
                 .commandValue(commandValue)
                 .ruleId(ruleId)
+                .deviceId(deviceId)
+                .priority(ruleId != null ? CommandPriority.AUTOMATION : CommandPriority.MANUAL)
                 .build();
     }
 }
@@ -1,5 +1,7 @@
 package com.greencue.domain.control.api.dto;
 
+import com.greencue.domain.control.model.CommandPriority;
+import com.greencue.domain.control.model.CommandStatus;
 import com.greencue.domain.control.model.ControlCommand;
 
 import java.time.LocalDateTime;
@@ -10,7 +12,12 @@ public record ControlCommandResponse(
         String command,
         Float commandValue,
         LocalDateTime createdAt,
-        Long ruleId
+        Long ruleId,
+        String deviceId,
+        CommandPriority priority,
+        CommandStatus status,
+        LocalDateTime deliveredAt,
+        LocalDateTime ackedAt
 ) {
     public static ControlCommandResponse fromEntity(ControlCommand entity) {
         return new ControlCommandResponse(
@@ -19,7 +26,12 @@ public record ControlCommandResponse(
                 entity.getCommand(),
                 entity.getCommandValue(),
                 entity.getCreatedAt(),
-                entity.getRuleId()
+                entity.getRuleId(),
+                entity.getDeviceId(),
+                entity.getPriority(),
+                entity.getStatus(),
+                entity.getDeliveredAt(),
+                entity.getAckedAt()
         );
     }
 }
@@ -0,0 +1,32 @@
+package com.greencue.domain.control.api.dto;
+
+import com.greencue.domain.control.ack.LatencyHistogram;
+
+public record ControlLatencyResponse(
+        String target,
+        long acked,
+        long failed,
+        long timedOut,
+        Percentiles endToEnd, // 명령 생성 → 장치 확인 (ms)
+        Percentiles device    // MQTT 발행 → 장치 확인 (ms)
+) {
+    public record Percentiles(
+            long count,
+            long p50,
+            long p90,
+            long p99,
+            long max,
+            double mean
+    ) {
+        public static Percentiles of(LatencyHistogram histogram) {
+            return new Percentiles(
+                    histogram.count(),
+                    histogram.quantile(0.5),
+                    histogram.quantile(0.9),
+                    histogram.quantile(0.99),
+                    histogram.max(),
+                    histogram.mean()
+            );
+        }
+    }
+}
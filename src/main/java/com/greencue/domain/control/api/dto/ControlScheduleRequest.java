@@ -0,0 +1,25 @@
+package com.greencue.domain.control.api.dto;
+
+import com.greencue.domain.control.model.ControlSchedule;
+
+public record ControlScheduleRequest(
+        String name,
+        String target,
+        String command,
+        Float commandValue,
+        String cronExpression,  // 예: "0 0 6 * * *" (초 분 시 일 월 요일)
+        Long intervalSeconds,   // cron 대신 고정 간격으로 실행할 때
+        Boolean isActive
+) {
+    public ControlSchedule toEntity() {
+        return ControlSchedule.builder()
+                .name(name)
+                .target(target)
+                .command(command)
+                .commandValue(commandValue)
+                .cronExpression(cronExpression == null || cronExpression.isBlank() ? null : cronExpression.trim()) // 빈 cron 식은 간격 예약으로 취급
+                .intervalSeconds(intervalSeconds)
+                .isActive(isActive == null || isActive)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.greencue.domain.control.api.dto;
+
+import com.greencue.domain.control.model.ControlSchedule;
+
+import java.time.LocalDateTime;
+
+public record ControlScheduleResponse(
+        Long id,
+        String name,
+        String target,
+        String command,
+        Float commandValue,
+        String cronExpression,
+        Long intervalSeconds,
+        Boolean isActive,
+        LocalDateTime lastRunAt,
+        LocalDateTime createdAt
+) {
+    public static ControlScheduleResponse fromEntity(ControlSchedule entity) {
+        return new ControlScheduleResponse(
+                entity.getId(),
+                entity.getName(),
+                entity.getTarget(),
+                entity.getCommand(),
+                entity.getCommandValue(),
+                entity.getCronExpression(),
+                entity.getIntervalSeconds(),
+                entity.getIsActive(),
+                entity.getLastRunAt(),
+                entity.getCreatedAt()
+        );
+    }
+}
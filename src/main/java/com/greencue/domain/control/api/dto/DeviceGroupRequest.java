@@ -0,0 +1,20 @@
+package com.greencue.domain.control.api.dto;
+
+import com.greencue.domain.control.model.DeviceGroup;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public record DeviceGroupRequest(
+        String name,
+        String description,
+        List<String> deviceIds
+) {
+    public DeviceGroup toEntity() {
+        return DeviceGroup.builder()
+                .name(name)
+                .description(description)
+                .deviceIds(deviceIds != null ? new LinkedHashSet<>(deviceIds) : new LinkedHashSet<>())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.greencue.domain.control.api.dto;
+
+import com.greencue.domain.control.model.DeviceGroup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record DeviceGroupResponse(
+        Long id,
+        String name,
+        String description,
+        List<String> deviceIds,
+        LocalDateTime createdAt
+) {
+    public static DeviceGroupResponse fromEntity(DeviceGroup entity) {
+        return new DeviceGroupResponse(
+                entity.getId(),
+                entity.getName(),
+                entity.getDescription(),
+                List.copyOf(entity.getDeviceIds()),
+                entity.getCreatedAt()
+        );
+    }
+}
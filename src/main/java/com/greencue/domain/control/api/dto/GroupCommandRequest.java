@@ -0,0 +1,8 @@
+package com.greencue.domain.control.api.dto;
+
+public record GroupCommandRequest(
+        String target,
+        String command,
+        Float commandValue
+) {
+}
@@ -0,0 +1,15 @@
+package com.greencue.domain.control.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record GroupCommandResponse(
+        Long groupId,
+        String target,
+        String command,
+        Float commandValue,
+        int deviceCount,
+        List<Long> commandIds, // 장치별로 생성된 명령 ID (진행 상황은 /topic/control-command 로 전달)
+        LocalDateTime createdAt
+) {
+}
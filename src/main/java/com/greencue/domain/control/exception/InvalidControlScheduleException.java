@@ -0,0 +1,17 @@
+package com.greencue.domain.control.exception;
+
+import com.greencue.shared.common.exception.DomainException;
+
+/**
+ * 예약 제어 관련 예외
+ */
+public class InvalidControlScheduleException extends DomainException {
+
+    public InvalidControlScheduleException(String message) {
+        super("INVALID_CONTROL_SCHEDULE", message);
+    }
+
+    public InvalidControlScheduleException(String message, Throwable cause) {
+        super("INVALID_CONTROL_SCHEDULE", message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.greencue.domain.control.exception;
+
+import com.greencue.shared.common.exception.DomainException;
+
+/**
+ * 장치 그룹 관련 예외
+ */
+public class InvalidDeviceGroupException extends DomainException {
+
+    public InvalidDeviceGroupException(String message) {
+        super("INVALID_DEVICE_GROUP", message);
+    }
+
+    public InvalidDeviceGroupException(String message, Throwable cause) {
+        super("INVALID_DEVICE_GROUP", message, cause);
+    }
+}
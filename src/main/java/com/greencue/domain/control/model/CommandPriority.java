@@ -0,0 +1,21 @@
+package com.greencue.domain.control.model;
+
+/**
+ * 제어 명령 우선순위 - 선언 순서가 곧 우선순위 (ordinal 로 저장하며 작을수록 먼저 전달)
+ * - 같은 장치에 대기 중인 명령이 있으면 우선순위가 높은 명령이 먼저 전달됨
+ */
+public enum CommandPriority {
+    MANUAL("수동 제어"),
+    SCHEDULED("예약 제어"),
+    AUTOMATION("자동화 규칙");
+
+    private final String description;
+
+    CommandPriority(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
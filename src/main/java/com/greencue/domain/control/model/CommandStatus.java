@@ -0,0 +1,23 @@
+package com.greencue.domain.control.model;
+
+/**
+ * 제어 명령 전달 상태
+ */
+public enum CommandStatus {
+    PENDING("전달 대기"),
+    SENDING("MQTT 발행 중"),
+    DELIVERED("MQTT 발행 완료"),
+    ACKED("장치 확인 완료"),
+    TIMED_OUT("장치 응답 시간 초과"),
+    FAILED("전달 실패");
+
+    private final String description;
+
+    CommandStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -34,4 +34,41 @@ public class ControlCommand {
 
     @Column(name = "rule_id")
     private Long ruleId; // 자동화 규칙 참조
+
+    @Column(name = "device_id")
+    private String deviceId; // 명령을 받을 장치 (null 이면 대상 전체에 브로드캐스트)
+
+    // 아웃박스 전달 상태 - 저장과 같은 트랜잭션에서 PENDING 으로 기록되고 릴레이가 발행
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private CommandStatus status = CommandStatus.PENDING;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    @Builder.Default
+    private CommandPriority priority = CommandPriority.MANUAL;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발행 시도 시각 (발행 중에는 임대 만료 시각)
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "acked_at")
+    private LocalDateTime ackedAt; // 장치가 상태 보고로 명령 수행을 확인한 시각
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @PrePersist
+    void prePersist() {
+        if (nextAttemptAt == null) {
+            nextAttemptAt = LocalDateTime.now();
+        }
+    }
 }
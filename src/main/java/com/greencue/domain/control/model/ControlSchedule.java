@@ -0,0 +1,54 @@
+package com.greencue.domain.control.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 기반 예약 제어
+ * - cron 식(초 분 시 일 월 요일) 또는 고정 간격(intervalSeconds) 중 하나로 실행 시각을 지정
+ * - 예: LED 06:00 켜기 "0 0 6 * * *", 20:00 끄기 "0 0 20 * * *", 팬 30분마다 intervalSeconds=1800
+ */
+@Entity
+@Table(name = "control_schedule")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ControlSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    @Column(nullable = false)
+    private String target; // 'led', 'fan'
+
+    @Column(nullable = false)
+    private String command; // 'on', 'off', 'brightness'
+
+    @Column(name = "command_value")
+    private Float commandValue;
+
+    @Column(name = "cron_expression", length = 100)
+    private String cronExpression;
+
+    @Column(name = "interval_seconds")
+    private Long intervalSeconds;
+
+    @Column(name = "is_active")
+    @Builder.Default
+    private Boolean isActive = true;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt; // 마지막 실행 예정 시각 - 인스턴스 간 중복 실행 방지와 간격 기준점으로 사용
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.greencue.domain.control.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 장치 그룹 - 그룹 명령은 소속 장치마다 개별 제어 명령으로 펼쳐서 전달
+ * - 예: "zone-b" 그룹에 온실 B 의 장치들을 묶어 "zone-b 의 팬 모두 켜기"
+ */
+@Entity
+@Table(name = "device_group")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    private String description;
+
+    @ElementCollection
+    @CollectionTable(name = "device_group_member", joinColumns = @JoinColumn(name = "group_id"))
+    @Column(name = "device_id", nullable = false)
+    @OrderBy
+    @Builder.Default
+    private Set<String> deviceIds = new LinkedHashSet<>();
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,17 +1,36 @@
 package com.greencue.domain.control.repository;
 
+import com.greencue.domain.control.api.dto.ControlCommandResponse;
+import com.greencue.domain.control.model.CommandStatus;
 import com.greencue.domain.control.model.ControlCommand;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
 public interface ControlCommandRepository extends JpaRepository<ControlCommand, Long> {
 
-    // 타겟별 최신 명령 조회
-    List<ControlCommand> findTop10ByTargetOrderByCreatedAtDesc(String target);
+    String RESPONSE_PROJECTION = "SELECT new com.greencue.domain.control.api.dto.ControlCommandResponse(" +
+            "c.id, c.target, c.command, c.commandValue, c.createdAt, c.ruleId, c.deviceId, c.priority, c.status, c.deliveredAt, c.ackedAt) " +
+            "FROM ControlCommand c ";
+
+    // 타겟별 최신 명령 조회 - 응답 레코드로 바로 조회
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "WHERE c.target = :target ORDER BY c.createdAt DESC")
+    List<ControlCommandResponse> findRecentByTarget(@Param("target") String target, Limit limit);
 
     // 규칙에 의한 명령 조회
-    List<ControlCommand> findByRuleIdOrderByCreatedAtDesc(Long ruleId);
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "WHERE c.ruleId = :ruleId ORDER BY c.createdAt DESC")
+    List<ControlCommandResponse> findByRuleId(@Param("ruleId") Long ruleId);
+
+    // 전달 상태별 최근 명령 조회
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "WHERE c.status = :status ORDER BY c.id DESC")
+    List<ControlCommandResponse> findRecentByStatus(@Param("status") CommandStatus status, Limit limit);
 }
@@ -0,0 +1,28 @@
+package com.greencue.domain.control.repository;
+
+import com.greencue.domain.control.api.dto.ControlScheduleResponse;
+import com.greencue.domain.control.model.ControlSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ControlScheduleRepository extends JpaRepository<ControlSchedule, Long> {
+
+    String RESPONSE_PROJECTION = "SELECT new com.greencue.domain.control.api.dto.ControlScheduleResponse(" +
+            "s.id, s.name, s.target, s.command, s.commandValue, s.cronExpression, s.intervalSeconds, " +
+            "s.isActive, s.lastRunAt, s.createdAt) " +
+            "FROM ControlSchedule s ";
+
+    // 전체 예약 조회 - 응답 레코드로 바로 조회
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "ORDER BY s.id")
+    List<ControlScheduleResponse> findAllResponses();
+
+    // 기동 시 타이밍 휠에 올릴 활성 예약
+    @Transactional(readOnly = true)
+    List<ControlSchedule> findByIsActiveTrue();
+}
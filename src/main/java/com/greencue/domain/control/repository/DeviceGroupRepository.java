@@ -0,0 +1,20 @@
+package com.greencue.domain.control.repository;
+
+import com.greencue.domain.control.model.DeviceGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface DeviceGroupRepository extends JpaRepository<DeviceGroup, Long> {
+
+    // 그룹과 소속 장치를 한 번에 조회
+    @Transactional(readOnly = true)
+    @Query("SELECT DISTINCT g FROM DeviceGroup g LEFT JOIN FETCH g.deviceIds ORDER BY g.id")
+    List<DeviceGroup> findAllWithDevices();
+
+    boolean existsByName(String name);
+}
@@ -0,0 +1,191 @@
+package com.greencue.domain.control.schedule;
+
+import com.greencue.domain.control.model.ControlSchedule;
+import com.greencue.domain.control.repository.ControlScheduleRepository;
+import com.greencue.domain.control.service.ControlScheduleChangedEvent;
+import com.greencue.domain.control.service.ControlScheduleService;
+import com.greencue.shared.config.ControlProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 예약 제어 실행기
+ * - 활성 예약마다 다음 실행 시각 하나를 계층형 타이밍 휠에 올려두고, tick 마다 만료된 예약을 실행
+ * - 예약 수와 관계없이 tick 당 비용은 만료된 예약 수에 비례 (전체 예약을 매번 훑지 않음)
+ * - 기동 시 DB 의 활성 예약을 다시 올리며, 정지 중 지나간 실행 시각은 따라잡지 않고 다음 시각부터 실행
+ * - 실행 시각은 DB 에서 조건부로 선점하므로 여러 인스턴스가 함께 떠 있어도 한 번만 실행됨
+ */
+@Component
+@ConditionalOnProperty(prefix = "control.schedule", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ControlScheduler {
+
+    private final ControlScheduleRepository controlScheduleRepository;
+    private final ControlScheduleService controlScheduleService;
+    private final HierarchicalTimingWheel<ScheduledRun> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<ScheduledRun>> timeouts = new HashMap<>(); // wheel 잠금으로 보호
+    private final Thread schedulerThread;
+    private volatile boolean running = true;
+
+    public ControlScheduler(ControlScheduleRepository controlScheduleRepository,
+                            ControlScheduleService controlScheduleService,
+                            ControlProperties controlProperties) {
+        this.controlScheduleRepository = controlScheduleRepository;
+        this.controlScheduleService = controlScheduleService;
+        this.wheel = new HierarchicalTimingWheel<>(
+                controlProperties.getSchedule().getTick().toMillis(), System.currentTimeMillis());
+        this.schedulerThread = new Thread(this::runScheduler, "control-schedule-wheel");
+        this.schedulerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        schedulerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(schedulerThread);
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // 예약 변경이 커밋되면 타이밍 휠에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ControlScheduleChangedEvent event) {
+        ControlSchedule schedule = event.schedule();
+        if (schedule == null || !Boolean.TRUE.equals(schedule.getIsActive())) {
+            unregister(event.scheduleId());
+        } else {
+            register(schedule, LocalDateTime.now());
+        }
+    }
+
+    private void runScheduler() {
+        loadActiveSchedules();
+        while (running) {
+            try {
+                List<ScheduledRun> due;
+                synchronized (wheel) {
+                    due = wheel.advance(System.currentTimeMillis());
+                }
+                if (!due.isEmpty()) {
+                    run(due);
+                }
+                long sleepMillis;
+                synchronized (wheel) {
+                    sleepMillis = wheel.nextTickMillis() - System.currentTimeMillis();
+                }
+                if (sleepMillis > 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMillis));
+                }
+            } catch (Exception e) {
+                log.error("예약 제어 실행기 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void loadActiveSchedules() {
+        try {
+            List<ControlSchedule> schedules = controlScheduleRepository.findByIsActiveTrue();
+            LocalDateTime now = LocalDateTime.now();
+            for (ControlSchedule schedule : schedules) {
+                register(schedule, now);
+            }
+            log.info("예약 제어 로드: {}개", schedules.size());
+        } catch (Exception e) {
+            log.error("예약 제어 로드 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 만료된 예약을 한 번에 실행하고 각각 다음 실행 시각을 다시 등록
+    private void run(List<ScheduledRun> due) {
+        List<ControlSchedule> schedules = new ArrayList<>(due.size());
+        List<LocalDateTime> runAt = new ArrayList<>(due.size());
+        for (ScheduledRun scheduledRun : due) {
+            schedules.add(scheduledRun.schedule());
+            runAt.add(scheduledRun.runAt());
+        }
+
+        try {
+            int executed = controlScheduleService.runSchedules(schedules, runAt);
+            log.debug("예약 제어 실행: {}개 중 {}개", due.size(), executed);
+        } catch (Exception e) {
+            log.error("예약 제어 실행 실패 ({}개): {}", due.size(), e.getMessage(), e);
+        }
+
+        for (ScheduledRun scheduledRun : due) {
+            scheduledRun.schedule().setLastRunAt(scheduledRun.runAt());
+            reschedule(scheduledRun);
+        }
+    }
+
+    private void register(ControlSchedule schedule, LocalDateTime after) {
+        LocalDateTime next = nextRunAfter(schedule, after);
+        synchronized (wheel) {
+            HierarchicalTimingWheel.Timeout<ScheduledRun> previous = timeouts.remove(schedule.getId());
+            if (previous != null) {
+                wheel.cancel(previous);
+            }
+            if (next != null) {
+                timeouts.put(schedule.getId(), wheel.schedule(toEpochMillis(next), new ScheduledRun(schedule, next)));
+            }
+        }
+    }
+
+    private void unregister(Long scheduleId) {
+        synchronized (wheel) {
+            HierarchicalTimingWheel.Timeout<ScheduledRun> previous = timeouts.remove(scheduleId);
+            if (previous != null) {
+                wheel.cancel(previous);
+            }
+        }
+    }
+
+    // 실행 중에 변경/삭제된 예약은 이미 새로 등록되었거나 빠졌으므로 건너뜀
+    private void reschedule(ScheduledRun completed) {
+        ControlSchedule schedule = completed.schedule();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = nextRunAfter(schedule, completed.runAt().isAfter(now) ? completed.runAt() : now);
+        synchronized (wheel) {
+            HierarchicalTimingWheel.Timeout<ScheduledRun> current = timeouts.get(schedule.getId());
+            if (current == null || current.task().schedule() != schedule) {
+                return;
+            }
+            if (next == null) {
+                timeouts.remove(schedule.getId());
+            } else {
+                timeouts.put(schedule.getId(), wheel.schedule(toEpochMillis(next), new ScheduledRun(schedule, next)));
+            }
+        }
+    }
+
+    private LocalDateTime nextRunAfter(ControlSchedule schedule, LocalDateTime after) {
+        try {
+            return ScheduleTrigger.nextRunAfter(schedule, after);
+        } catch (IllegalArgumentException e) {
+            log.warn("예약 실행 시각을 계산할 수 없어 건너뜁니다: 예약 ID={}, {}", schedule.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record ScheduledRun(ControlSchedule schedule, LocalDateTime runAt) {
+    }
+}
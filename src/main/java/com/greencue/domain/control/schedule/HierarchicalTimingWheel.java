@@ -0,0 +1,193 @@
+package com.greencue.domain.control.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ * - 4단계 x 64칸 휠로 tick 단위 마감 시각을 관리 (tick 1초 기준 약 194일까지 직접 표현)
+ * - 등록/취소는 칸마다 둔 이중 연결 리스트에 붙이고 떼기만 하므로 O(1)
+ * - 하위 휠이 한 바퀴 돌 때마다 상위 휠의 칸 하나를 하위 휠로 내려보냄 (cascade)
+ * - 범위를 넘는 마감 시각은 최상위 휠 마지막 칸에 두었다가 내려올 때 다시 배치
+ * - 스레드 안전하지 않음 - 호출하는 쪽에서 동기화
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_RANGE = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Bucket<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.wheels = new Bucket[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    /**
+     * deadlineMillis 이후 첫 tick 에 만료되도록 등록 (이미 지난 시각이면 다음 tick)
+     */
+    public Timeout<T> schedule(long deadlineMillis, T task) {
+        long deadlineTick = Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+        Timeout<T> timeout = new Timeout<>(task, deadlineMillis, deadlineTick);
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 등록 취소 - 이미 만료되었거나 취소된 경우 false
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * nowMillis 까지 tick 을 진행하고 만료된 작업을 반환 (tick 순서, 같은 tick 안에서는 순서 보장 없음)
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Bucket<T> bucket = wheels[0][(int) (currentTick & SLOT_MASK)];
+            for (Timeout<T> timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+                size--;
+                expired.add(timeout.task);
+            }
+        }
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 다음 tick 의 시작 시각 (이 시각 이후에 advance 를 호출해야 tick 이 진행됨)
+     */
+    public long nextTickMillis() {
+        return startMillis + (currentTick + 1) * tickMillis;
+    }
+
+    // 하위 비트가 모두 0 이 된 단계의 현재 칸을 하위 휠로 재배치
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            long lowerBits = currentTick & ((1L << (SLOT_BITS * level)) - 1);
+            if (lowerBits != 0) {
+                return;
+            }
+            Bucket<T> bucket = wheels[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            for (Timeout<T> timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+                place(timeout, currentTick); // 이번 tick 이 마감인 작업은 바로 이어서 만료 처리됨
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long tick = Math.max(timeout.deadlineTick, earliestTick);
+        long delta = tick - currentTick;
+        if (delta >= MAX_RANGE) {
+            tick = currentTick + MAX_RANGE - 1; // 범위 밖 - 최상위 휠에서 다시 내려올 때 재배치
+            delta = MAX_RANGE - 1;
+        }
+        int level = 0;
+        while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timeout);
+    }
+
+    /**
+     * 등록된 작업 핸들 - 취소 시 사용
+     */
+    public static final class Timeout<T> {
+        private final T task;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T task, long deadlineMillis, long deadlineTick) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T task() {
+            return task;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public boolean isPending() {
+            return bucket != null;
+        }
+    }
+
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> poll() {
+            Timeout<T> first = head;
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+    }
+}
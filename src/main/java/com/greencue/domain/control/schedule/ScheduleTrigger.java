@@ -0,0 +1,35 @@
+package com.greencue.domain.control.schedule;
+
+import com.greencue.domain.control.model.ControlSchedule;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 제어의 다음 실행 시각 계산
+ * - cron: 기준 시각 이후 첫 일치 시각
+ * - 간격: 마지막 실행(없으면 생성) 시각에서 간격의 배수만큼 떨어진 시각 - 재기동해도 주기가 밀리지 않음
+ */
+public final class ScheduleTrigger {
+
+    private ScheduleTrigger() {
+    }
+
+    /**
+     * after 이후 다음 실행 시각 (더 이상 실행할 시각이 없으면 null)
+     */
+    public static LocalDateTime nextRunAfter(ControlSchedule schedule, LocalDateTime after) {
+        if (schedule.getCronExpression() != null) {
+            return CronExpression.parse(schedule.getCronExpression()).next(after);
+        }
+
+        long interval = schedule.getIntervalSeconds();
+        LocalDateTime anchor = schedule.getLastRunAt() != null ? schedule.getLastRunAt() : schedule.getCreatedAt();
+        if (anchor == null || anchor.isAfter(after)) {
+            return after.plusSeconds(interval);
+        }
+        long elapsed = Duration.between(anchor, after).getSeconds();
+        return anchor.plusSeconds((elapsed / interval + 1) * interval);
+    }
+}
@@ -0,0 +1,10 @@
+package com.greencue.domain.control.service;
+
+import com.greencue.domain.control.api.dto.ControlCommandResponse;
+
+/**
+ * 제어 명령이 아웃박스에 기록되었음을 알리는 이벤트 - 커밋 후 릴레이를 깨우고 조회 버전을 올리는 용도
+ * @param announcement 커밋 후 WebSocket / SSE 로 알릴 명령 (알리지 않으면 null)
+ */
+public record ControlCommandQueuedEvent(Long commandId, String target, ControlCommandResponse announcement) {
+}
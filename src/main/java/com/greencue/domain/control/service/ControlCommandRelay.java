@@ -0,0 +1,307 @@
+package com.greencue.domain.control.service;
+
+import com.greencue.domain.control.api.dto.ControlCommandResponse;
+import com.greencue.domain.control.model.CommandPriority;
+import com.greencue.domain.control.model.CommandStatus;
+import com.greencue.domain.control.model.ControlCommand;
+import com.greencue.shared.config.ControlProperties;
+import com.greencue.shared.infrastructure.mqtt.MqttControlService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import com.greencue.shared.infrastructure.sse.SseEventHub;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 제어 명령 아웃박스 릴레이
+ * - PENDING 명령을 임대(lease) 방식으로 SENDING 으로 가져와 트랜잭션 밖에서 MQTT 로 한 번에 발행
+ * - 대상·장치마다 발행 중인 명령은 최대 하나 - 장치별 대기열 맨 앞 명령만 가져오므로 장치별로 직렬 전달됨
+ * - 대기열 순서는 우선순위(수동 > 예약 > 자동화) 다음 접수 순서 - 수동 명령은 대기 중인 자동화 명령을 앞지름
+ * - 발행 결과 처리는 가상 스레드에서 수행하므로 응답이 늦은 발행이 다른 장치의 다음 배치를 막지 않음
+ * - 실패 시 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 FAILED 로 표시
+ * - 접수 후 maxAge 가 지난 명령은 발행하지 않고 FAILED 로 표시 - 오래된 명령이 뒤늦게 장치를 움직이지 않도록
+ * - MQTT 가 비활성화되어도 릴레이는 실행 - 발행이 실패하므로 백오프를 거쳐 FAILED 로 정리됨
+ * - 여러 인스턴스가 동시에 실행되어도 FOR UPDATE SKIP LOCKED 로 같은 명령을 중복으로 가져가지 않음
+ */
+@Component
+@Slf4j
+public class ControlCommandRelay {
+
+    // 가져갈 수 있는 명령: 같은 장치에 임대 중인 다른 명령이 없고, 장치 대기열에서 (우선순위, ID) 가 가장 앞선 명령
+    // 임대가 만료된 SENDING 명령은 발행 도중 중단된 것으로 보고 다시 가져감
+    // 만료 처리 전이라도 maxAge 가 지난 명령은 가져가지 않음
+    private static final String CLAIM_SQL =
+            "UPDATE control_command c SET status = 'SENDING', next_attempt_at = ?, attempts = c.attempts + 1 " +
+                    "WHERE c.id IN (" +
+                    "  SELECT p.id FROM control_command p " +
+                    "  WHERE p.status IN ('PENDING', 'SENDING') AND p.next_attempt_at <= ? AND p.created_at >= ? " +
+                    "    AND NOT EXISTS (SELECT 1 FROM control_command o " +
+                    "                    WHERE o.status IN ('PENDING', 'SENDING') AND o.target = p.target " +
+                    "                      AND o.device_id IS NOT DISTINCT FROM p.device_id AND o.id <> p.id " +
+                    "                      AND ((o.status = 'SENDING' AND o.next_attempt_at > ?) " +
+                    "                           OR o.priority < p.priority " +
+                    "                           OR (o.priority = p.priority AND o.id < p.id))) " +
+                    "  ORDER BY p.priority, p.id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+                    "RETURNING c.id, c.target, c.command, c.command_value, c.created_at, c.rule_id, c.device_id, " +
+                    "c.priority, c.attempts";
+    // 대기 중이거나 임대가 만료된 명령 중 maxAge 가 지난 명령 - 발행 중인 명령은 결과 반영에 맡김
+    private static final String EXPIRE_SQL =
+            "UPDATE control_command SET status = 'FAILED', last_error = ? " +
+                    "WHERE created_at < ? AND (status = 'PENDING' OR (status = 'SENDING' AND next_attempt_at <= ?)) " +
+                    "RETURNING id, target, command, command_value, created_at, rule_id, device_id, priority, attempts";
+    // 발행 완료 응답보다 장치 확인(ACK)이 먼저 도착했을 수 있으므로 SENDING 인 경우에만 상태를 변경
+    private static final String DELIVERED_SQL =
+            "UPDATE control_command SET status = 'DELIVERED', delivered_at = ?, last_error = NULL " +
+                    "WHERE id = ? AND status = 'SENDING'";
+    private static final String RETRY_SQL =
+            "UPDATE control_command SET status = ?, next_attempt_at = ?, last_error = ? " +
+                    "WHERE id = ? AND status = 'SENDING'";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SseEventHub sseEventHub;
+    private final ControlCommandVersions commandVersions;
+    private final ControlProperties.Outbox config;
+    private final Thread relayThread;
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore inFlight;
+    private MqttControlService mqttControlService; // Optional - MQTT가 비활성화되면 null
+    private volatile boolean running = true;
+    private long nextExpireAt; // 만료 처리 시각 (System.nanoTime) - 릴레이 스레드에서만 접근
+
+    public ControlCommandRelay(JdbcTemplate jdbcTemplate,
+                               SimpMessagingTemplate messagingTemplate,
+                               SseEventHub sseEventHub,
+                               ControlCommandVersions commandVersions,
+                               ControlProperties controlProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.sseEventHub = sseEventHub;
+        this.commandVersions = commandVersions;
+        this.config = controlProperties.getOutbox();
+        this.inFlight = new Semaphore(config.getMaxInFlight());
+        this.relayThread = new Thread(this::runRelay, "control-outbox-relay");
+        this.relayThread.setDaemon(true);
+    }
+
+    // MQTT 서비스가 있을 때만 주입
+    @Autowired(required = false)
+    public void setMqttControlService(MqttControlService mqttControlService) {
+        this.mqttControlService = mqttControlService;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (mqttControlService == null) {
+            log.warn("MQTT 서비스가 비활성화되어 있어 접수된 제어 명령은 재시도 후 FAILED 로 처리됩니다.");
+        }
+        relayThread.start();
+        log.info("제어 명령 아웃박스 릴레이 시작: batchSize={}, pollInterval={}, maxAge={}",
+                config.getBatchSize(), config.getPollInterval(), config.getMaxAge());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(relayThread);
+        relayThread.join(TimeUnit.SECONDS.toMillis(10));
+        completionExecutor.shutdown();
+        completionExecutor.awaitTermination(10, TimeUnit.SECONDS); // 남은 명령은 임대가 만료되면 다시 발행됨
+    }
+
+    // 명령이 커밋되면 폴링 주기를 기다리지 않고 바로 발행
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommandQueued(ControlCommandQueuedEvent event) {
+        LockSupport.unpark(relayThread);
+    }
+
+    private void runRelay() {
+        while (running) {
+            try {
+                if (relayBatch() == 0) {
+                    LockSupport.parkNanos(config.getPollInterval().toNanos());
+                }
+            } catch (Exception e) {
+                log.error("제어 명령 릴레이 오류: {}", e.getMessage(), e);
+                LockSupport.parkNanos(config.getPollInterval().toNanos());
+            }
+        }
+    }
+
+    // 발행 가능한 만큼 가져와 발행을 시작하고 가져온 명령 수를 반환 - 결과는 기다리지 않음
+    private int relayBatch() {
+        if (System.nanoTime() - nextExpireAt >= 0) {
+            expireStale();
+            nextExpireAt = System.nanoTime() + config.getPollInterval().toNanos();
+        }
+
+        int permits = Math.min(config.getBatchSize(), inFlight.availablePermits());
+        if (permits == 0 || !inFlight.tryAcquire(permits)) {
+            return 0;
+        }
+
+        List<ClaimedCommand> batch;
+        try {
+            batch = claim(permits);
+        } catch (RuntimeException e) {
+            inFlight.release(permits);
+            throw e;
+        }
+        inFlight.release(permits - batch.size());
+
+        long timeoutNanos = config.getLeaseTimeout().toNanos() / 2;
+        for (ClaimedCommand claimed : batch) {
+            CompletableFuture<Integer> published;
+            try {
+                published = mqttControlService != null
+                        ? mqttControlService.publishControlCommand(claimed.command())
+                        : CompletableFuture.failedFuture(new IllegalStateException("MQTT 서비스가 비활성화되어 있습니다."));
+            } catch (RuntimeException e) {
+                published = CompletableFuture.failedFuture(e);
+            }
+            published.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
+                    .whenCompleteAsync((packetId, error) -> complete(claimed, error), completionExecutor);
+        }
+        return batch.size();
+    }
+
+    // 발행 결과 반영 - 같은 장치의 다음 명령을 가져갈 수 있게 되므로 릴레이를 깨움
+    private void complete(ClaimedCommand claimed, Throwable error) {
+        try {
+            if (error == null) {
+                markDelivered(claimed);
+            } else {
+                markFailed(claimed, error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        } catch (Exception e) {
+            log.error("제어 명령 발행 결과 반영 실패 (임대 만료 후 재발행): 명령 ID={}, {}",
+                    claimed.command().getId(), e.getMessage());
+        } finally {
+            inFlight.release();
+            LockSupport.unpark(relayThread);
+        }
+    }
+
+    private List<ClaimedCommand> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimedCommand> claimed = jdbcTemplate.query(CLAIM_SQL, ControlCommandRelay::mapClaimed,
+                Timestamp.valueOf(now.plus(config.getLeaseTimeout())), Timestamp.valueOf(now),
+                Timestamp.valueOf(now.minus(config.getMaxAge())), Timestamp.valueOf(now), limit);
+        claimed.sort(Comparator.comparing(c -> c.command().getId()));
+        claimed.stream().map(c -> c.command().getTarget()).distinct().forEach(commandVersions::changed); // SENDING
+        return claimed;
+    }
+
+    // maxAge 가 지난 명령을 FAILED 로 표시 - 장치 대기열 맨 앞을 막지 않도록 함께 정리
+    private void expireStale() {
+        LocalDateTime now = LocalDateTime.now();
+        String message = "접수 후 " + config.getMaxAge() + " 안에 발행하지 못해 만료됨";
+        List<ClaimedCommand> expired = jdbcTemplate.query(EXPIRE_SQL, ControlCommandRelay::mapClaimed,
+                message, Timestamp.valueOf(now.minus(config.getMaxAge())), Timestamp.valueOf(now));
+        for (ClaimedCommand claimed : expired) {
+            publishStatus(claimed.command(), CommandStatus.FAILED);
+            log.warn("제어 명령 만료: 명령 ID={}, 시도 {}회, 접수 {}", claimed.command().getId(),
+                    claimed.attempts(), claimed.command().getCreatedAt());
+        }
+    }
+
+    private static ClaimedCommand mapClaimed(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        float value = rs.getFloat("command_value");
+        Float commandValue = rs.wasNull() ? null : value;
+        ControlCommand command = ControlCommand.builder()
+                .id(rs.getLong("id"))
+                .target(rs.getString("target"))
+                .command(rs.getString("command"))
+                .commandValue(commandValue)
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .ruleId(rs.getObject("rule_id", Long.class))
+                .deviceId(rs.getString("device_id"))
+                .priority(CommandPriority.values()[rs.getInt("priority")])
+                .status(CommandStatus.PENDING)
+                .build();
+        return new ClaimedCommand(command, rs.getInt("attempts"));
+    }
+
+    private void markDelivered(ClaimedCommand claimed) {
+        LocalDateTime deliveredAt = LocalDateTime.now();
+        if (jdbcTemplate.update(DELIVERED_SQL, Timestamp.valueOf(deliveredAt), claimed.command().getId()) == 0) {
+            return; // 이미 장치가 확인한 명령
+        }
+        claimed.command().setDeliveredAt(deliveredAt);
+        publishStatus(claimed.command(), CommandStatus.DELIVERED);
+        log.info("제어 명령 발행: {} {} (명령 ID={}, 시도 {}회)", claimed.command().getTarget(),
+                claimed.command().getCommand(), claimed.command().getId(), claimed.attempts());
+    }
+
+    private void markFailed(ClaimedCommand claimed, Throwable error) {
+        boolean exhausted = claimed.attempts() >= config.getMaxAttempts();
+        if (error instanceof TimeoutException) {
+            error = new TimeoutException("MQTT 발행 응답 시간 초과");
+        }
+        CommandStatus status = exhausted ? CommandStatus.FAILED : CommandStatus.PENDING;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(claimed.attempts()));
+        String message = error != null && error.getMessage() != null ? error.getMessage() : String.valueOf(error);
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (jdbcTemplate.update(RETRY_SQL, status.name(), Timestamp.valueOf(nextAttemptAt), message,
+                claimed.command().getId()) == 0) {
+            return; // 발행 응답은 실패했지만 장치에는 전달되어 이미 확인된 명령
+        }
+        commandVersions.changed(claimed.command().getTarget());
+        if (exhausted) {
+            publishStatus(claimed.command(), CommandStatus.FAILED);
+            log.error("제어 명령 전달 실패: 명령 ID={}, 시도 {}회, {}", claimed.command().getId(), claimed.attempts(), message);
+        } else {
+            log.warn("제어 명령 발행 실패, {}에 재시도: 명령 ID={}, 시도 {}회, {}",
+                    nextAttemptAt, claimed.command().getId(), claimed.attempts(), message);
+        }
+    }
+
+    // 지수 백오프 (±20% 지터)
+    private Duration backoff(int attempts) {
+        long initial = config.getInitialBackoff().toMillis();
+        long max = config.getMaxBackoff().toMillis();
+        long delay = initial << Math.min(attempts - 1, 20);
+        delay = Math.min(max, delay);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    // 전달 상태 변경을 WebSocket 으로 알림
+    private void publishStatus(ControlCommand command, CommandStatus status) {
+        command.setStatus(status);
+        commandVersions.changed(command.getTarget());
+        ControlCommandResponse response = ControlCommandResponse.fromEntity(command);
+        messagingTemplate.convertAndSend("/topic/control-command", response);
+        sseEventHub.publish("control", response);
+    }
+
+    private record ClaimedCommand(ControlCommand command, int attempts) {
+    }
+}
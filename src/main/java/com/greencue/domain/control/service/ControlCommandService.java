@@ -2,16 +2,27 @@ package com.greencue.domain.control.service;
 
 import com.greencue.domain.control.api.dto.ControlCommandRequest;
 import com.greencue.domain.control.api.dto.ControlCommandResponse;
+import com.greencue.domain.control.model.CommandPriority;
+import com.greencue.domain.control.model.CommandStatus;
 import com.greencue.domain.control.model.ControlCommand;
+import com.greencue.domain.control.model.ControlSchedule;
 import com.greencue.domain.control.repository.ControlCommandRepository;
 import com.greencue.domain.control.exception.InvalidControlCommandException;
-import com.greencue.shared.infrastructure.mqtt.MqttControlService;
+import com.greencue.shared.infrastructure.sse.SseEventHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,36 +31,77 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ControlCommandService {
 
+    public static final int MAX_RECENT_LIMIT = 100; // 최근 명령 조회 1회 최대 건수
+
+    // 장치 목록을 배열 하나로 넘겨 한 번의 INSERT 로 장치별 명령을 생성
+    private static final String INSERT_FOR_DEVICES_SQL =
+            "INSERT INTO control_command " +
+                    "(target, command, command_value, device_id, created_at, status, priority, attempts, next_attempt_at) " +
+                    "SELECT ?, ?, ?, d.device_id, ?, 'PENDING', 0, 0, ? " +
+                    "FROM unnest(?) WITH ORDINALITY AS d(device_id, ord) ORDER BY d.ord " +
+                    "RETURNING id";
+
     private final ControlCommandRepository controlCommandRepository;
+    private final JdbcTemplate jdbcTemplate;
     private final SimpMessagingTemplate messagingTemplate;
-    private MqttControlService mqttControlService; // Optional - MQTT가 비활성화되면 null
+    private final SseEventHub sseEventHub;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 제어 명령 실행 - 아웃박스(PENDING)에 기록만 하고 MQTT 발행은 릴레이가 비동기로 수행
+    @Transactional
+    public ControlCommandResponse executeCommand(ControlCommandRequest dto) {
+        ControlCommand saved = controlCommandRepository.save(dto.toEntity());
+        ControlCommandResponse response = ControlCommandResponse.fromEntity(saved);
+        eventPublisher.publishEvent(new ControlCommandQueuedEvent(saved.getId(), saved.getTarget(), response));
 
+        log.info("제어 명령 접수: {} {} {} (명령 ID={})", dto.target(), dto.command(), dto.commandValue(), saved.getId());
 
-    // MQTT 서비스가 있을 때만 주입
-    @Autowired(required = false)
-    public void setMqttControlService(MqttControlService mqttControlService) {
-        this.mqttControlService = mqttControlService;
+        return response;
     }
 
-    // 제어 명령 실행
-    public ControlCommandResponse executeCommand(ControlCommandRequest dto) {
-        ControlCommand command = dto.toEntity();
+    // 커밋된 명령만 WebSocket / SSE 로 실시간 전송 - 롤백된 명령이 재전송용 버퍼에 남지 않도록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommandQueued(ControlCommandQueuedEvent event) {
+        if (event.announcement() == null) {
+            return;
+        }
+        messagingTemplate.convertAndSend("/topic/control-command", event.announcement());
+        sseEventHub.publish("control", event.announcement());
+    }
 
+    // 아웃박스에 기록 - 커밋 후 릴레이를 깨움
+    private ControlCommand enqueue(ControlCommand command) {
         ControlCommand saved = controlCommandRepository.save(command);
+        eventPublisher.publishEvent(new ControlCommandQueuedEvent(saved.getId(), saved.getTarget(), null));
+        return saved;
+    }
 
-        // MQTT로 제어 명령 발행 (MQTT가 활성화된 경우에만)
-        if (mqttControlService != null) {
-            mqttControlService.sendControlCommand(dto);
-        } else {
-            log.warn("MQTT 서비스가 비활성화되어 있어 제어 명령을 발행할 수 없습니다.");
+    /**
+     * 같은 명령을 여러 장치에 대해 한 번에 아웃박스에 기록합니다.
+     * 발행은 릴레이가 배치 단위로 응답을 기다리지 않고 연속 발행합니다.
+     * @return 장치 순서대로 생성된 명령 ID
+     */
+    @Transactional
+    public List<Long> enqueueForDevices(String target, String command, Float commandValue, List<String> deviceIds) {
+        if (deviceIds.isEmpty()) {
+            return List.of();
         }
-
-        // WebSocket으로 실시간 전송
-        messagingTemplate.convertAndSend("/topic/control-command", ControlCommandResponse.fromEntity(saved));
-
-        log.info("제어 명령 실행: {} {} {}", dto.target(), dto.command(), dto.commandValue());
-
-        return ControlCommandResponse.fromEntity(saved);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> commandIds = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_FOR_DEVICES_SQL);
+            ps.setString(1, target);
+            ps.setString(2, command);
+            ps.setObject(3, commandValue, Types.REAL);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setArray(6, con.createArrayOf("varchar", deviceIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("id"));
+
+        eventPublisher.publishEvent(new ControlCommandQueuedEvent(commandIds.get(0), target, null));
+        log.info("장치별 제어 명령 접수: {} {} {} ({}개 장치)", target, command, commandValue, deviceIds.size());
+
+        return commandIds.stream().sorted().toList();
     }
 
     // LED 밝기 조절
@@ -77,21 +129,27 @@ public class ControlCommandService {
         return executeCommand(request);
     }
 
+    // 최근 명령 조회 건수 확인 - 0 이하는 거부, 최대 건수를 넘으면 최대 건수로 제한
+    public int resolveRecentLimit(int limit) {
+        if (limit <= 0) {
+            throw new InvalidControlCommandException("조회 건수는 1 이상이어야 합니다: " + limit);
+        }
+        return Math.min(limit, MAX_RECENT_LIMIT);
+    }
+
     // 타겟별 최근 명령 조회
     public List<ControlCommandResponse> getRecentCommandsByTarget(String target, int limit) {
-        List<ControlCommand> commands = controlCommandRepository.findTop10ByTargetOrderByCreatedAtDesc(target);
-        return commands.stream()
-                .limit(limit)
-                .map(ControlCommandResponse::fromEntity)
-                .toList();
+        return controlCommandRepository.findRecentByTarget(target, Limit.of(resolveRecentLimit(limit)));
+    }
+
+    // 전달 상태별 최근 명령 조회 (PENDING, DELIVERED, ACKED, TIMED_OUT, FAILED)
+    public List<ControlCommandResponse> getRecentCommandsByStatus(CommandStatus status, int limit) {
+        return controlCommandRepository.findRecentByStatus(status, Limit.of(resolveRecentLimit(limit)));
     }
 
     // 규칙에 의한 명령 조회
     public List<ControlCommandResponse> getCommandsByRule(Long ruleId) {
-        List<ControlCommand> commands = controlCommandRepository.findByRuleIdOrderByCreatedAtDesc(ruleId);
-        return commands.stream()
-                .map(ControlCommandResponse::fromEntity)
-                .toList();
+        return controlCommandRepository.findByRuleId(ruleId);
     }
 
     /**
@@ -99,6 +157,7 @@ public class ControlCommandService {
      * @param rule 자동화 규칙
      * @return 생성된 제어 명령
      */
+    @Transactional
     public ControlCommand createFromAutomationRule(com.greencue.domain.automation.model.AutomationRule rule) {
         String action = rule.getAction();
         String[] parts = action.trim().split("\\s+");
@@ -121,9 +180,10 @@ public class ControlCommandService {
                     .command(command)
                     .commandValue(commandValue)
                     .ruleId(rule.getId())
+                    .priority(CommandPriority.AUTOMATION)
                     .build();
 
-            ControlCommand saved = controlCommandRepository.save(controlCommand);
+            ControlCommand saved = enqueue(controlCommand);
             log.info("자동화 규칙으로부터 제어 명령 생성: 규칙 ID={}, 명령 ID={}", rule.getId(), saved.getId());
 
             return saved;
@@ -134,6 +194,27 @@ public class ControlCommandService {
         }
     }
 
+    /**
+     * 예약 제어로부터 제어 명령을 생성합니다.
+     * @param schedule 실행 시각이 된 예약
+     * @return 생성된 제어 명령
+     */
+    @Transactional
+    public ControlCommand createScheduledCommand(ControlSchedule schedule) {
+        ControlCommand controlCommand = ControlCommand.builder()
+                .target(schedule.getTarget())
+                .command(schedule.getCommand())
+                .commandValue(schedule.getCommandValue())
+                .priority(CommandPriority.SCHEDULED)
+                .build();
+
+        ControlCommand saved = enqueue(controlCommand);
+        log.info("예약 제어 명령 생성: 예약 ID={}, 명령 ID={}, {} {}",
+                schedule.getId(), saved.getId(), schedule.getTarget(), schedule.getCommand());
+
+        return saved;
+    }
+
     private Float parseCommandValue(String raw) {
         try {
             return Float.parseFloat(raw);
@@ -151,6 +232,7 @@ public class ControlCommandService {
      * @param value 제어 값 (밝기 조절 시 사용)
      * @return 생성된 제어 명령
      */
+    @Transactional
     public ControlCommand createManualCommand(String target, String command, Float value) {
         try {
             ControlCommand controlCommand = ControlCommand.builder()
@@ -160,7 +242,7 @@ public class ControlCommandService {
                     .ruleId(null) // 수동 명령이므로 규칙 ID는 null
                     .build();
 
-            ControlCommand saved = controlCommandRepository.save(controlCommand);
+            ControlCommand saved = enqueue(controlCommand);
             log.info("수동 제어 명령 생성: {} {} {}", target, command, value);
 
             return saved;
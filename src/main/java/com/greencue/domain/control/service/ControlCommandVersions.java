@@ -0,0 +1,35 @@
+package com.greencue.domain.control.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대상별 제어 명령 변경 버전 - 최근 명령 조회의 ETag 기준
+ * - 명령 기록(커밋 후)과 이 인스턴스의 릴레이/확인 처리로 상태가 바뀔 때마다 증가
+ * - 다른 인스턴스가 바꾼 상태는 반영되지 않으므로, 여러 인스턴스 환경의 상태 변화는 /topic/control-command 기준
+ */
+@Component
+public class ControlCommandVersions {
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommandQueued(ControlCommandQueuedEvent event) {
+        changed(event.target());
+    }
+
+    public void changed(String target) {
+        if (target != null) {
+            versions.computeIfAbsent(target, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    public long version(String target) {
+        AtomicLong version = versions.get(target);
+        return version != null ? version.get() : 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.greencue.domain.control.service;
+
+import com.greencue.domain.control.model.ControlSchedule;
+
+/**
+ * 예약 제어가 생성/변경/삭제되었음을 알리는 이벤트 - 커밋 후 타이밍 휠에 반영
+ * schedule 이 null 이면 삭제
+ */
+public record ControlScheduleChangedEvent(Long scheduleId, ControlSchedule schedule) {
+}
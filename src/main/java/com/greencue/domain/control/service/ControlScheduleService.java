@@ -0,0 +1,121 @@
+package com.greencue.domain.control.service;
+
+import com.greencue.domain.control.api.dto.ControlScheduleRequest;
+import com.greencue.domain.control.api.dto.ControlScheduleResponse;
+import com.greencue.domain.control.exception.InvalidControlScheduleException;
+import com.greencue.domain.control.model.ControlSchedule;
+import com.greencue.domain.control.repository.ControlScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ControlScheduleService {
+
+    // 같은 실행 시각을 먼저 가져간 인스턴스만 명령을 생성
+    private static final String CLAIM_SQL =
+            "UPDATE control_schedule SET last_run_at = ? " +
+                    "WHERE id = ? AND is_active = TRUE AND (last_run_at IS NULL OR last_run_at < ?)";
+    private static final long MIN_INTERVAL_SECONDS = 1;
+
+    private final ControlScheduleRepository controlScheduleRepository;
+    private final ControlCommandService controlCommandService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 예약 생성
+    @Transactional
+    public ControlScheduleResponse createSchedule(ControlScheduleRequest dto) {
+        validate(dto);
+        ControlSchedule saved = controlScheduleRepository.save(dto.toEntity());
+        eventPublisher.publishEvent(new ControlScheduleChangedEvent(saved.getId(), saved));
+        log.info("예약 제어 생성: {} {} {} (예약 ID={}, cron={}, interval={}s)", dto.target(), dto.command(),
+                dto.commandValue(), saved.getId(), saved.getCronExpression(), dto.intervalSeconds());
+
+        return ControlScheduleResponse.fromEntity(saved);
+    }
+
+    // 전체 예약 조회
+    public List<ControlScheduleResponse> getSchedules() {
+        return controlScheduleRepository.findAllResponses();
+    }
+
+    // 예약 활성화/비활성화
+    @Transactional
+    public ControlScheduleResponse toggleSchedule(Long scheduleId, boolean isActive) {
+        ControlSchedule schedule = controlScheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new InvalidControlScheduleException("예약을 찾을 수 없습니다: " + scheduleId));
+
+        schedule.setIsActive(isActive);
+        ControlSchedule saved = controlScheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new ControlScheduleChangedEvent(scheduleId, saved));
+        log.info("예약 상태 변경: {} → {}", scheduleId, isActive);
+
+        return ControlScheduleResponse.fromEntity(saved);
+    }
+
+    // 예약 삭제
+    @Transactional
+    public void deleteSchedule(Long scheduleId) {
+        if (!controlScheduleRepository.existsById(scheduleId)) {
+            throw new InvalidControlScheduleException("예약을 찾을 수 없습니다: " + scheduleId);
+        }
+        controlScheduleRepository.deleteById(scheduleId);
+        eventPublisher.publishEvent(new ControlScheduleChangedEvent(scheduleId, null));
+        log.info("예약 제어 삭제: 예약 ID={}", scheduleId);
+    }
+
+    /**
+     * 실행 시각이 된 예약들의 제어 명령을 한 트랜잭션으로 아웃박스에 기록
+     * @param schedules 실행할 예약
+     * @param runAt 예약별 실행 예정 시각 (schedules 와 같은 순서)
+     * @return 이 인스턴스가 실제로 실행한 예약 수
+     */
+    @Transactional
+    public int runSchedules(List<ControlSchedule> schedules, List<LocalDateTime> runAt) {
+        List<Object[]> args = new ArrayList<>(schedules.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            Timestamp at = Timestamp.valueOf(runAt.get(i));
+            args.add(new Object[]{at, schedules.get(i).getId(), at});
+        }
+        int[] claimed = jdbcTemplate.batchUpdate(CLAIM_SQL, args);
+
+        int executed = 0;
+        for (int i = 0; i < schedules.size(); i++) {
+            if (claimed[i] == 0) {
+                continue; // 다른 인스턴스가 이미 실행했거나 비활성화된 예약
+            }
+            controlCommandService.createScheduledCommand(schedules.get(i));
+            executed++;
+        }
+        return executed;
+    }
+
+    private void validate(ControlScheduleRequest dto) {
+        if (dto.target() == null || dto.target().isBlank() || dto.command() == null || dto.command().isBlank()) {
+            throw new InvalidControlScheduleException("제어 대상과 명령은 필수입니다.");
+        }
+        boolean hasCron = dto.cronExpression() != null && !dto.cronExpression().isBlank();
+        boolean hasInterval = dto.intervalSeconds() != null;
+        if (hasCron == hasInterval) {
+            throw new InvalidControlScheduleException("cron 식과 실행 간격 중 하나만 지정해야 합니다.");
+        }
+        if (hasCron && !CronExpression.isValidExpression(dto.cronExpression())) {
+            throw new InvalidControlScheduleException("잘못된 cron 식: " + dto.cronExpression());
+        }
+        if (hasInterval && dto.intervalSeconds() < MIN_INTERVAL_SECONDS) {
+            throw new InvalidControlScheduleException("실행 간격은 " + MIN_INTERVAL_SECONDS + "초 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.greencue.domain.control.service;
+
+import com.greencue.domain.control.api.dto.DeviceGroupRequest;
+import com.greencue.domain.control.api.dto.DeviceGroupResponse;
+import com.greencue.domain.control.api.dto.GroupCommandRequest;
+import com.greencue.domain.control.api.dto.GroupCommandResponse;
+import com.greencue.domain.control.exception.InvalidControlCommandException;
+import com.greencue.domain.control.exception.InvalidDeviceGroupException;
+import com.greencue.domain.control.model.DeviceGroup;
+import com.greencue.domain.control.repository.DeviceGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeviceGroupService {
+
+    private final DeviceGroupRepository deviceGroupRepository;
+    private final ControlCommandService controlCommandService;
+
+    // 장치 그룹 생성
+    @Transactional
+    public DeviceGroupResponse createGroup(DeviceGroupRequest dto) {
+        if (dto.name() == null || dto.name().isBlank()) {
+            throw new InvalidDeviceGroupException("그룹 이름은 필수입니다.");
+        }
+        if (deviceGroupRepository.existsByName(dto.name())) {
+            throw new InvalidDeviceGroupException("이미 존재하는 그룹입니다: " + dto.name());
+        }
+
+        DeviceGroup saved = deviceGroupRepository.save(dto.toEntity());
+        log.info("장치 그룹 생성: {} ({}개 장치)", saved.getName(), saved.getDeviceIds().size());
+
+        return DeviceGroupResponse.fromEntity(saved);
+    }
+
+    // 장치 그룹 목록 조회
+    public List<DeviceGroupResponse> getGroups() {
+        return deviceGroupRepository.findAllWithDevices().stream()
+                .map(DeviceGroupResponse::fromEntity)
+                .toList();
+    }
+
+    // 그룹 소속 장치 교체
+    @Transactional
+    public DeviceGroupResponse updateDevices(Long groupId, List<String> deviceIds) {
+        DeviceGroup group = findGroup(groupId);
+        group.setDeviceIds(new LinkedHashSet<>(deviceIds));
+        log.info("장치 그룹 변경: {} ({}개 장치)", group.getName(), deviceIds.size());
+
+        return DeviceGroupResponse.fromEntity(group);
+    }
+
+    // 장치 그룹 삭제
+    @Transactional
+    public void deleteGroup(Long groupId) {
+        deviceGroupRepository.delete(findGroup(groupId));
+        log.info("장치 그룹 삭제: 그룹 ID={}", groupId);
+    }
+
+    // 그룹 명령 - 소속 장치마다 개별 명령으로 펼쳐서 한 번에 기록
+    @Transactional
+    public GroupCommandResponse executeGroupCommand(Long groupId, GroupCommandRequest dto) {
+        if (dto.target() == null || dto.target().isBlank() || dto.command() == null || dto.command().isBlank()) {
+            throw new InvalidControlCommandException("제어 대상과 명령은 필수입니다.");
+        }
+        DeviceGroup group = findGroup(groupId);
+        List<String> deviceIds = new ArrayList<>(group.getDeviceIds());
+        if (deviceIds.isEmpty()) {
+            throw new InvalidDeviceGroupException("그룹에 장치가 없습니다: " + group.getName());
+        }
+
+        List<Long> commandIds = controlCommandService.enqueueForDevices(
+                dto.target(), dto.command(), dto.commandValue(), deviceIds);
+        log.info("그룹 제어 명령 접수: {} → {} {} ({}개 장치)",
+                group.getName(), dto.target(), dto.command(), deviceIds.size());
+
+        return new GroupCommandResponse(groupId, dto.target(), dto.command(), dto.commandValue(),
+                deviceIds.size(), commandIds, LocalDateTime.now());
+    }
+
+    private DeviceGroup findGroup(Long groupId) {
+        return deviceGroupRepository.findById(groupId)
+                .orElseThrow(() -> new InvalidDeviceGroupException("그룹을 찾을 수 없습니다: " + groupId));
+    }
+}
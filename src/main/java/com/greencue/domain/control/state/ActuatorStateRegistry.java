@@ -0,0 +1,82 @@
+package com.greencue.domain.control.state;
+
+import com.greencue.domain.control.api.dto.ActuatorStateResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 장치·액추에이터별 최신 상태 레지스트리
+ * - 장치가 보고한 상태(smartfarm/status/{target})를 필드 단위로 병합하여 보관
+ * - 더 이전 시각의 보고는 무시하므로 순서가 뒤바뀐 보고에도 안전
+ * - 버전은 어떤 상태든 실제로 바뀔 때마다 증가
+ */
+@Component
+public class ActuatorStateRegistry {
+
+    private static final Comparator<ActuatorStateResponse> ORDER =
+            Comparator.comparing(ActuatorStateResponse::deviceId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ActuatorStateResponse::target);
+
+    private final Map<ActuatorKey, ActuatorStateResponse> states = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 상태 보고 반영 - 값이 하나라도 바뀌었으면 true
+     */
+    public boolean update(String deviceId, String target, Map<String, Object> state, LocalDateTime reportedAt) {
+        if (target == null || state == null || state.isEmpty()) {
+            return false;
+        }
+        boolean[] changed = {false};
+        states.compute(new ActuatorKey(deviceId, target), (key, current) -> {
+            if (current != null && reportedAt.isBefore(current.updatedAt())) {
+                return current;
+            }
+            Map<String, Object> merged = current != null ? new LinkedHashMap<>(current.state()) : new LinkedHashMap<>();
+            merged.putAll(state);
+            if (current != null && merged.equals(current.state())) {
+                return current;
+            }
+            changed[0] = true;
+            return new ActuatorStateResponse(deviceId, target, Collections.unmodifiableMap(merged), reportedAt);
+        });
+        if (changed[0]) {
+            version.incrementAndGet();
+        }
+        return changed[0];
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    // 전체 최신 상태 (장치, 대상 순)
+    public List<ActuatorStateResponse> all() {
+        return states.values().stream().sorted(ORDER).toList();
+    }
+
+    // 정렬 없이 순회할 때 사용
+    public Collection<ActuatorStateResponse> values() {
+        return states.values();
+    }
+
+    public List<ActuatorStateResponse> byDevice(String deviceId) {
+        return states.values().stream()
+                .filter(state -> Objects.equals(state.deviceId(), deviceId))
+                .sorted(ORDER)
+                .toList();
+    }
+
+    private record ActuatorKey(String deviceId, String target) {
+    }
+}
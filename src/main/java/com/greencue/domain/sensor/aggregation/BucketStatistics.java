@@ -0,0 +1,69 @@
+package com.greencue.domain.sensor.aggregation;
+
+/**
+ * 시간 버킷 하나의 집계 상태 (개수, 최소/최대, 평균/분산, 분위수 스케치)
+ * - 평균/분산은 Welford 방식으로 누적하고, 병합은 Chan 의 병렬 공식을 사용
+ * - 스레드 안전하지 않음
+ */
+public class BucketStatistics {
+
+    private final QuantileSketch sketch;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double m2;
+
+    public BucketStatistics(double compression) {
+        this.sketch = new QuantileSketch(compression);
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sketch.add(value);
+    }
+
+    public void merge(BucketStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sketch.merge(other.sketch);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return min;
+    }
+
+    public double max() {
+        return max;
+    }
+
+    public double mean() {
+        return mean;
+    }
+
+    // 모집단 표준편차
+    public double stddev() {
+        return count > 0 ? Math.sqrt(m2 / count) : Double.NaN;
+    }
+
+    public double quantile(double q) {
+        return sketch.quantile(q);
+    }
+}
@@ -0,0 +1,179 @@
+package com.greencue.domain.sensor.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * 병합 가능한 분위수 스케치 (merging t-digest)
+ * - 센트로이드 수가 compression 에 비례하도록 제한되어 입력 크기와 무관하게 메모리 사용량이 고정됨
+ * - 스레드 안전하지 않음
+ */
+public class QuantileSketch {
+
+    private final double compression;
+    private final int bufferLimit;
+
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+
+    private double[] bufferMeans;
+    private double[] bufferWeights;
+    private int bufferCount;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch(double compression) {
+        this.compression = compression;
+        this.bufferLimit = (int) Math.ceil(compression) * 4;
+        this.means = new double[0];
+        this.weights = new double[0];
+        this.bufferMeans = new double[8];
+        this.bufferWeights = new double[8];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void merge(QuantileSketch other) {
+        other.compress();
+        for (int i = 0; i < other.centroidCount; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    /**
+     * q 분위수 (0 ≤ q ≤ 1) 근사값 - 데이터가 없으면 NaN
+     */
+    public double quantile(double q) {
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1 || q <= 0) {
+            return q <= 0 ? min : means[0];
+        }
+        if (q >= 1) {
+            return max;
+        }
+
+        double index = q * totalWeight;
+        double firstHalf = weights[0] / 2;
+        if (index < firstHalf) {
+            return min + (means[0] - min) * (index / firstHalf);
+        }
+
+        double cumulative = firstHalf;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2;
+            if (index < cumulative + gap) {
+                double fraction = (index - cumulative) / gap;
+                return means[i] + (means[i + 1] - means[i]) * fraction;
+            }
+            cumulative += gap;
+        }
+
+        double lastHalf = weights[centroidCount - 1] / 2;
+        double fraction = Math.min(1, (index - cumulative) / lastHalf);
+        return means[centroidCount - 1] + (max - means[centroidCount - 1]) * fraction;
+    }
+
+    private void add(double mean, double weight) {
+        if (bufferCount == bufferMeans.length) {
+            if (bufferCount >= bufferLimit) {
+                compress();
+            } else {
+                int grown = Math.min(bufferLimit, bufferCount * 2);
+                bufferMeans = Arrays.copyOf(bufferMeans, grown);
+                bufferWeights = Arrays.copyOf(bufferWeights, grown);
+            }
+        }
+        bufferMeans[bufferCount] = mean;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+
+        totalWeight += weight;
+        min = Math.min(min, mean);
+        max = Math.max(max, mean);
+    }
+
+    // 버퍼와 기존 센트로이드를 정렬 후 k1 스케일 함수 한도 내에서 병합
+    private void compress() {
+        if (bufferCount == 0) {
+            return;
+        }
+
+        int n = centroidCount + bufferCount;
+        double[] allMeans = Arrays.copyOf(means, n);
+        double[] allWeights = Arrays.copyOf(weights, n);
+        System.arraycopy(bufferMeans, 0, allMeans, centroidCount, bufferCount);
+        System.arraycopy(bufferWeights, 0, allWeights, centroidCount, bufferCount);
+        bufferCount = 0;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        double[] mergedMeans = new double[Math.min(n, (int) Math.ceil(compression) * 2 + 8)];
+        double[] mergedWeights = new double[mergedMeans.length];
+        int merged = 0;
+
+        double currentMean = allMeans[order[0]];
+        double currentWeight = allWeights[order[0]];
+        double weightSoFar = 0;
+        double limit = weightLimit(0);
+
+        for (int i = 1; i < n; i++) {
+            double mean = allMeans[order[i]];
+            double weight = allWeights[order[i]];
+            if (weightSoFar + currentWeight + weight <= limit) {
+                currentWeight += weight;
+                currentMean += (mean - currentMean) * weight / currentWeight;
+            } else {
+                if (merged == mergedMeans.length) {
+                    mergedMeans = Arrays.copyOf(mergedMeans, merged * 2);
+                    mergedWeights = Arrays.copyOf(mergedWeights, merged * 2);
+                }
+                mergedMeans[merged] = currentMean;
+                mergedWeights[merged] = currentWeight;
+                merged++;
+
+                weightSoFar += currentWeight;
+                limit = weightLimit(weightSoFar);
+                currentMean = mean;
+                currentWeight = weight;
+            }
+        }
+        if (merged == mergedMeans.length) {
+            mergedMeans = Arrays.copyOf(mergedMeans, merged + 1);
+            mergedWeights = Arrays.copyOf(mergedWeights, merged + 1);
+        }
+        mergedMeans[merged] = currentMean;
+        mergedWeights[merged] = currentWeight;
+        merged++;
+
+        means = Arrays.copyOf(mergedMeans, merged);
+        weights = Arrays.copyOf(mergedWeights, merged);
+        centroidCount = merged;
+    }
+
+    // 누적 가중치 weightSoFar 에서 시작하는 센트로이드가 가질 수 있는 누적 가중치 상한
+    private double weightLimit(double weightSoFar) {
+        double q = Math.min(1, weightSoFar / totalWeight);
+        double nextK = compression / (2 * Math.PI) * Math.asin(2 * q - 1) + 1;
+        if (nextK >= compression / 4) {
+            return totalWeight;
+        }
+        return (Math.sin(nextK * 2 * Math.PI / compression) + 1) / 2 * totalWeight;
+    }
+}
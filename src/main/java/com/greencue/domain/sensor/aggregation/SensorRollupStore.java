@@ -0,0 +1,102 @@
+package com.greencue.domain.sensor.aggregation;
+
+import com.greencue.shared.config.SensorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 수집 시점에 갱신되는 최근 구간의 기본 해상도(기본 1분) 롤업
+ * - 타입 → 버킷 시작 시각 → 장치별 BucketStatistics
+ * - 조회 버킷은 기본 해상도 롤업을 병합하여 만들므로 구간 길이와 무관하게 원본 행을 읽지 않음
+ */
+@Component
+@ConditionalOnProperty(prefix = "sensor.aggregation", name = "rollup-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SensorRollupStore {
+
+    private static final String NO_DEVICE = "";
+
+    private final SensorProperties.Aggregation config;
+    private final long resolutionMillis;
+    private final long coveredFrom;
+    private final Map<String, ConcurrentNavigableMap<Long, Map<String, BucketStatistics>>> rollups =
+            new ConcurrentHashMap<>();
+
+    public SensorRollupStore(SensorProperties sensorProperties) {
+        this.config = sensorProperties.getAggregation();
+        this.resolutionMillis = config.getRollupResolution().toMillis();
+        // 기동 직후의 부분 버킷은 제외하고 다음 버킷부터 완전한 롤업으로 간주
+        this.coveredFrom = alignDown(System.currentTimeMillis()) + resolutionMillis;
+    }
+
+    public void record(String type, String deviceId, float value, long timestamp) {
+        long bucketStart = alignDown(timestamp);
+        if (bucketStart < retentionCutoff()) {
+            return;
+        }
+
+        BucketStatistics stats = rollups
+                .computeIfAbsent(type, k -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(bucketStart, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(Objects.requireNonNullElse(deviceId, NO_DEVICE),
+                        k -> new BucketStatistics(config.getCompression()));
+        synchronized (stats) {
+            stats.add(value);
+        }
+    }
+
+    /**
+     * [from, to) 구간을 interval 버킷으로 롤업만으로 정확히 집계할 수 있는지 확인
+     */
+    public boolean covers(long from, long to, long intervalMillis) {
+        return from >= Math.max(coveredFrom, retentionCutoff())
+                && from % resolutionMillis == 0
+                && to % resolutionMillis == 0
+                && intervalMillis % resolutionMillis == 0;
+    }
+
+    /**
+     * [from, to) 구간의 롤업을 순회 - 각 BucketStatistics 는 잠금 상태로 전달되므로 visitor 에서 병합만 수행
+     */
+    public void forEach(String type, long from, long to, RollupVisitor visitor) {
+        ConcurrentNavigableMap<Long, Map<String, BucketStatistics>> buckets = rollups.get(type);
+        if (buckets == null) {
+            return;
+        }
+        buckets.subMap(from, true, to, false).forEach((bucketStart, devices) ->
+                devices.forEach((deviceKey, stats) -> {
+                    String deviceId = NO_DEVICE.equals(deviceKey) ? null : deviceKey;
+                    synchronized (stats) {
+                        visitor.visit(deviceId, bucketStart, stats);
+                    }
+                }));
+    }
+
+    // 보존 기간이 지난 롤업 제거
+    @Scheduled(fixedDelayString = "${sensor.aggregation.eviction-interval:60000}")
+    public void evictExpired() {
+        long cutoff = retentionCutoff();
+        rollups.values().forEach(buckets -> buckets.headMap(cutoff).clear());
+    }
+
+    private long retentionCutoff() {
+        return alignDown(System.currentTimeMillis() - config.getRollupRetention().toMillis()) + resolutionMillis;
+    }
+
+    private long alignDown(long timestamp) {
+        return Math.floorDiv(timestamp, resolutionMillis) * resolutionMillis;
+    }
+
+    @FunctionalInterface
+    public interface RollupVisitor {
+        void visit(String deviceId, long bucketStart, BucketStatistics stats);
+    }
+}
@@ -1,15 +1,30 @@
 package com.greencue.domain.sensor.api;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greencue.domain.sensor.api.dto.AlignedSensorResponse;
+import com.greencue.domain.sensor.api.dto.SensorAggregateResponse;
+import com.greencue.domain.sensor.api.dto.SensorBackfillRequest;
 import com.greencue.domain.sensor.api.dto.SensorDataRequest;
 import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.api.dto.SensorIngestSummary;
+import com.greencue.domain.sensor.model.DerivedMetric;
+import com.greencue.domain.sensor.service.SensorAggregationService;
+import com.greencue.domain.sensor.service.SensorAlignmentService;
 import com.greencue.domain.sensor.service.SensorDataService;
 import com.greencue.shared.common.dto.ApiResponse;
+import com.greencue.shared.infrastructure.web.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,6 +36,10 @@ import java.util.List;
 public class SensorDataController {
 
     private final SensorDataService sensorDataService;
+    private final SensorAggregationService sensorAggregationService;
+    private final SensorAlignmentService sensorAlignmentService;
+    private final ObjectMapper objectMapper;
+    private final SerializedResponseCache responseCache;
 
     // 센서 데이터 저장
     @PostMapping("/data")
@@ -29,30 +48,71 @@ public class SensorDataController {
         return ResponseEntity.ok(ApiResponse.success(saved, "센서 데이터가 성공적으로 저장되었습니다."));
     }
 
-    // 모든 센서의 최신 데이터 조회
+    // 센서 데이터 일괄 저장 - JSON 배열 또는 NDJSON 본문을 읽는 대로 해석하여 배치 단위로 저장
+    @PostMapping(value = "/data/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<SensorIngestSummary>> saveSensorDataBatch(InputStream body) throws IOException {
+        try (MappingIterator<SensorDataRequest> readings =
+                     objectMapper.readerFor(SensorDataRequest.class).readValues(body)) {
+            SensorIngestSummary summary = sensorDataService.ingestStream(readings);
+            return ResponseEntity.ok(ApiResponse.success(summary, "센서 데이터 일괄 저장을 처리했습니다."));
+        }
+    }
+
+    // 장치에 버퍼링된 측정값 일괄 백필 (Content-Encoding: gzip 본문 지원)
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<SensorIngestSummary>> backfillSensorData(@RequestBody SensorBackfillRequest request) {
+        SensorIngestSummary summary = sensorDataService.ingestBatch(request.resolvedReadings());
+        return ResponseEntity.ok(ApiResponse.success(summary, "센서 데이터 백필을 처리했습니다."));
+    }
+
+    // 모든 센서의 최신 데이터 조회 - 최신 값이 바뀌기 전까지는 직렬화된 응답을 재사용, 바뀌지 않았으면 304
     @GetMapping("/latest")
-    public ResponseEntity<ApiResponse<List<SensorDataResponse>>> getLatestData() {
-        List<SensorDataResponse> latestData = sensorDataService.getLatestDataByType();
-        return ResponseEntity.ok(ApiResponse.success(latestData, "모든 센서의 최신 데이터를 조회했습니다."));
+    public ResponseEntity<byte[]> getLatestData(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return responseCache.conditional(ifNoneMatch, "sensor:latest", sensorDataService.getLatestVersion(),
+                () -> ApiResponse.success(sensorDataService.getLatestDataByType(), "모든 센서의 최신 데이터를 조회했습니다."));
     }
 
-    // 특정 센서 타입의 최신 데이터 조회
+    // 특정 센서 타입의 최신 데이터 조회 - 해당 타입 샘플이 들어오기 전까지는 직렬화된 응답을 재사용, 바뀌지 않았으면 304
     @GetMapping("/latest/{type}")
-    public ResponseEntity<ApiResponse<SensorDataResponse>> getLatestDataByType(@PathVariable String type) {
-        SensorDataResponse latestData = sensorDataService.getLatestFromCache(type);
+    public ResponseEntity<byte[]> getLatestDataByType(
+            @PathVariable String type,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long revision = sensorDataService.getTypeRevision(type);
+        SensorDataResponse latestData = sensorDataService.getLatestByType(type);
         if (latestData == null) {
             throw new com.greencue.domain.sensor.exception.InvalidSensorDataException("해당 센서 타입의 데이터를 찾을 수 없습니다: " + type);
         }
-        return ResponseEntity.ok(ApiResponse.success(latestData, "센서 데이터를 조회했습니다."));
+        return responseCache.conditional(ifNoneMatch, "sensor:latest:" + type, revision,
+                () -> ApiResponse.success(latestData, "센서 데이터를 조회했습니다."));
+    }
+
+    // 특정 장치의 센서별 최신 데이터 조회 - 이 노드가 아는 장치는 장치 버전 기준으로 직렬화된 응답 재사용 / 304
+    @GetMapping("/device/{deviceId}/latest")
+    public ResponseEntity<byte[]> getLatestDataByDevice(
+            @PathVariable String deviceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = sensorDataService.getLatestDeviceVersion(deviceId);
+        if (version == 0) {
+            List<SensorDataResponse> latestData = sensorDataService.getLatestDataByDevice(deviceId);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(responseCache.serialize(ApiResponse.success(latestData, "장치의 최신 센서 데이터를 조회했습니다.")));
+        }
+        return responseCache.conditional(ifNoneMatch, "sensor:device:" + deviceId, version,
+                () -> ApiResponse.success(sensorDataService.getLatestDataByDevice(deviceId), "장치의 최신 센서 데이터를 조회했습니다."));
     }
 
-    // 특정 센서 타입의 최근 데이터 조회
+    // 특정 센서 타입의 최근 데이터 조회 - 해당 타입 샘플이 들어오지 않았으면 조회 없이 304
     @GetMapping("/{type}/recent")
-    public ResponseEntity<ApiResponse<List<SensorDataResponse>>> getRecentDataByType(
+    public ResponseEntity<byte[]> getRecentDataByType(
             @PathVariable String type,
-            @RequestParam(defaultValue = "10") int limit) {
-        List<SensorDataResponse> recentData = sensorDataService.getRecentDataByType(type, limit);
-        return ResponseEntity.ok(ApiResponse.success(recentData, "최근 센서 데이터를 조회했습니다."));
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int resolvedLimit = sensorDataService.resolveRecentLimit(limit);
+        return responseCache.conditional(ifNoneMatch, "sensor:recent:" + type + ":" + resolvedLimit,
+                sensorDataService.getTypeRevision(type),
+                () -> ApiResponse.success(sensorDataService.getRecentDataByType(type, resolvedLimit), "최근 센서 데이터를 조회했습니다."));
     }
 
     // 특정 기간 데이터 조회
@@ -65,6 +125,37 @@ public class SensorDataController {
         return ResponseEntity.ok(ApiResponse.success(data, "기간별 센서 데이터를 조회했습니다."));
     }
 
+    // 기간 데이터 집계 (시간 버킷별 min/max/avg/stddev/백분위수)
+    @GetMapping("/{type}/aggregate")
+    public ResponseEntity<ApiResponse<List<SensorAggregateResponse>>> aggregate(
+            @PathVariable String type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @RequestParam(defaultValue = "3600") long intervalSeconds,
+            @RequestParam(defaultValue = "false") boolean groupByDevice,
+            @RequestParam(defaultValue = "50,95,99") List<Double> percentiles) {
+        List<SensorAggregateResponse> aggregates = sensorAggregationService.aggregate(
+                type, startTime, endTime, Duration.ofSeconds(intervalSeconds), groupByDevice, percentiles);
+        return ResponseEntity.ok(ApiResponse.success(aggregates, "센서 데이터 집계를 조회했습니다."));
+    }
+
+    // 여러 센서 타입을 시간 버킷으로 정렬하여 조회 (파생 지표: vpd, dewpoint)
+    @GetMapping("/aligned")
+    public ResponseEntity<ApiResponse<List<AlignedSensorResponse>>> getAlignedData(
+            @RequestParam List<String> types,
+            @RequestParam(required = false) String deviceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @RequestParam(defaultValue = "60") long intervalSeconds,
+            @RequestParam(required = false) List<String> derived) {
+        List<DerivedMetric> metrics = derived == null ? List.of() : derived.stream()
+                .map(DerivedMetric::fromCode)
+                .toList();
+        List<AlignedSensorResponse> data = sensorAlignmentService.getAlignedData(
+                types, deviceId, startTime, endTime, Duration.ofSeconds(intervalSeconds), metrics);
+        return ResponseEntity.ok(ApiResponse.success(data, "시간 정렬된 센서 데이터를 조회했습니다."));
+    }
+
     // 센서 타입 목록 조회
     @GetMapping("/types")
     public ResponseEntity<ApiResponse<List<String>>> getSensorTypes() {
@@ -0,0 +1,11 @@
+package com.greencue.domain.sensor.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record AlignedSensorResponse(
+        LocalDateTime bucketStart,
+        Map<String, Double> values, // 센서 타입별 버킷 평균 (데이터가 없으면 null)
+        Map<String, Double> derived // 파생 지표 (온도/습도가 모두 있는 버킷만)
+) {
+}
@@ -0,0 +1,42 @@
+package com.greencue.domain.sensor.api.dto;
+
+import com.greencue.domain.sensor.aggregation.BucketStatistics;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record SensorAggregateResponse(
+        String type,
+        String deviceId,
+        LocalDateTime bucketStart,
+        long count,
+        Double min,
+        Double max,
+        Double avg,
+        Double stddev,
+        Map<String, Double> percentiles // 예: {"p50": 24.1, "p95": 29.8}
+) {
+    public static SensorAggregateResponse of(String type, String deviceId, LocalDateTime bucketStart,
+                                             BucketStatistics stats, List<Double> percentiles) {
+        Map<String, Double> quantiles = new LinkedHashMap<>();
+        for (Double percentile : percentiles) {
+            String label = "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+            quantiles.put(label, stats.quantile(percentile / 100.0));
+        }
+
+        return new SensorAggregateResponse(
+                type,
+                deviceId,
+                bucketStart,
+                stats.count(),
+                stats.min(),
+                stats.max(),
+                stats.mean(),
+                stats.stddev(),
+                quantiles
+        );
+    }
+}
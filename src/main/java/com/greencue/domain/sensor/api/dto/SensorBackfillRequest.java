@@ -0,0 +1,22 @@
+package com.greencue.domain.sensor.api.dto;
+
+import java.util.List;
+
+/**
+ * 장치가 연결이 끊긴 동안 버퍼링한 측정값 일괄 업로드
+ * - readings 의 deviceId 가 비어 있으면 요청의 deviceId 를 사용
+ */
+public record SensorBackfillRequest(
+        String deviceId,
+        List<SensorDataRequest> readings
+) {
+    public List<SensorDataRequest> resolvedReadings() {
+        if (readings == null) {
+            return List.of();
+        }
+        return readings.stream()
+                .map(reading -> reading.deviceId() != null ? reading : new SensorDataRequest(
+                        reading.type(), reading.sensorValue(), reading.unit(), deviceId, reading.measuredAt()))
+                .toList();
+    }
+}
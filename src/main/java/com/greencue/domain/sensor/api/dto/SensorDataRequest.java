@@ -2,18 +2,26 @@ package com.greencue.domain.sensor.api.dto;
 
 import com.greencue.domain.sensor.model.SensorData;
 
+import java.time.LocalDateTime;
+
 public record SensorDataRequest(
         String type,
         Float sensorValue,
         String unit,
-        String deviceId
+        String deviceId,
+        LocalDateTime measuredAt // 장치 측정 시각 (없으면 서버 수신 시각)
 ) {
+    public SensorDataRequest(String type, Float sensorValue, String unit, String deviceId) {
+        this(type, sensorValue, unit, deviceId, null);
+    }
+
     public SensorData toEntity() {
         return SensorData.builder()
                 .type(type)
                 .sensorValue(sensorValue)
                 .unit(unit)
                 .deviceId(deviceId)
+                .createdAt(measuredAt)
                 .build();
     }
 }
@@ -0,0 +1,51 @@
+package com.greencue.domain.sensor.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 수집 결과 요약
+ * - errors 는 거부된 샘플 중 앞쪽 일부의 사유만 담음
+ */
+public record SensorIngestSummary(
+        int received,
+        int accepted,
+        int rejected,
+        LocalDateTime oldest,
+        LocalDateTime newest,
+        List<String> errors
+) {
+    public static final int MAX_REPORTED_ERRORS = 20;
+
+    public static SensorIngestSummary empty() {
+        return new SensorIngestSummary(0, 0, 0, null, null, List.of());
+    }
+
+    // 여러 배치의 결과 합산
+    public SensorIngestSummary merge(SensorIngestSummary other) {
+        List<String> mergedErrors = new ArrayList<>(errors);
+        other.errors().stream()
+                .limit(Math.max(0, MAX_REPORTED_ERRORS - mergedErrors.size()))
+                .forEach(mergedErrors::add);
+        return new SensorIngestSummary(
+                received + other.received(),
+                accepted + other.accepted(),
+                rejected + other.rejected(),
+                earlier(oldest, other.oldest()),
+                later(newest, other.newest()),
+                List.copyOf(mergedErrors));
+    }
+
+    public SensorIngestSummary withError(String error) {
+        return merge(new SensorIngestSummary(0, 0, 0, null, null, List.of(error)));
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return a == null || (b != null && b.isBefore(a)) ? b : a;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a == null || (b != null && b.isAfter(a)) ? b : a;
+    }
+}
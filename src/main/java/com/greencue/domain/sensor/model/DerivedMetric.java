@@ -0,0 +1,49 @@
+package com.greencue.domain.sensor.model;
+
+/**
+ * 온도/습도로부터 계산되는 파생 지표
+ */
+public enum DerivedMetric {
+    VPD("vpd", "포차 (kPa)"),
+    DEW_POINT("dewpoint", "이슬점 (℃)");
+
+    private final String code;
+    private final String description;
+
+    DerivedMetric(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static DerivedMetric fromCode(String code) {
+        for (DerivedMetric metric : values()) {
+            if (metric.code.equals(code)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Unknown derived metric code: " + code);
+    }
+
+    /**
+     * 온도(℃)와 상대습도(%)로 지표 계산
+     */
+    public double compute(double temperature, double humidity) {
+        return switch (this) {
+            // 포화수증기압(Tetens) × (1 - RH)
+            case VPD -> 0.6108 * Math.exp(17.27 * temperature / (temperature + 237.3)) * (1 - humidity / 100.0);
+            // Magnus 근사식
+            case DEW_POINT -> {
+                double gamma = Math.log(humidity / 100.0) + 17.62 * temperature / (243.12 + temperature);
+                yield 243.12 * gamma / (17.62 - gamma);
+            }
+        };
+    }
+}
@@ -2,7 +2,6 @@ package com.greencue.domain.sensor.model;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -31,7 +30,13 @@ public class SensorData {
     @Column(name = "device_id")
     private String deviceId; // 센서 식별자
 
-    @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
+    private LocalDateTime createdAt; // 측정 시각 (장치가 보내지 않으면 서버 수신 시각)
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package com.greencue.domain.sensor.repository;
+
+import com.greencue.domain.sensor.exception.InvalidSensorDataException;
+import com.greencue.domain.sensor.model.SensorData;
+import com.greencue.shared.config.SensorProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * COPY ... FROM STDIN (FORMAT BINARY) 기반 sensor_data 대량 저장기
+ * - 여러 호출자의 샘플을 모아 한 트랜잭션으로 커밋 (group commit)
+ * - ID 는 시퀀스에서 미리 할당하므로 저장 후에도 엔티티와 동일하게 ID 를 사용할 수 있음
+ * - COPY 가 실패하면 같은 배치를 행 단위 INSERT 로 다시 시도하여 문제 있는 샘플만 실패 처리
+ * - 완료 통지는 별도 가상 스레드에서 수행 - 호출자의 후속 처리(캐시/브로드캐스트)가 저장 스레드를 붙잡지 않음
+ * - 조회는 기존대로 JPA 엔티티(SensorData)를 사용
+ */
+@Component
+@ConditionalOnProperty(prefix = "sensor.bulk-writer", name = "enabled", havingValue = "true")
+@Slf4j
+public class SensorDataBulkWriter {
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('sensor_data', 'id')) FROM generate_series(1, ?)";
+    private static final String COPY_SQL =
+            "COPY sensor_data (id, type, sensor_value, unit, device_id, created_at) FROM STDIN (FORMAT BINARY)";
+    private static final String INSERT_SQL =
+            "INSERT INTO sensor_data (type, sensor_value, unit, device_id, created_at) VALUES (?, ?, ?, ?, ?) RETURNING id";
+
+    private static final byte[] COPY_SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final LocalDateTime PG_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final short COLUMN_COUNT = 6;
+
+    private final DataSource dataSource;
+    private final SensorProperties.BulkWriter config;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread writerThread;
+    private final ExecutorService completionExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sensor-bulk-complete-", 0).factory());
+    private volatile boolean running = true;
+
+    public SensorDataBulkWriter(DataSource dataSource, SensorProperties sensorProperties) {
+        this.dataSource = dataSource;
+        this.config = sensorProperties.getBulkWriter();
+        this.queue = new LinkedBlockingQueue<>(config.getQueueCapacity());
+        this.writerThread = new Thread(this::runWriter, "sensor-bulk-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+        log.info("센서 데이터 대량 저장기 시작: batchSize={}, linger={}", config.getBatchSize(), config.getLinger());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        completionExecutor.shutdown();
+        completionExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 저장 요청 - 큐가 가득 차면 여유가 생길 때까지 대기 (수집 측 배압)
+     */
+    public CompletableFuture<SensorData> submit(SensorData data) {
+        // NOT NULL 위반 샘플이 배치 전체를 실패시키지 않도록 미리 거름
+        if (data.getType() == null || data.getSensorValue() == null || data.getUnit() == null) {
+            return CompletableFuture.failedFuture(
+                    new InvalidSensorDataException("센서 타입, 값, 단위는 필수입니다: " + data.getType()));
+        }
+        if (data.getCreatedAt() == null) {
+            data.setCreatedAt(LocalDateTime.now());
+        }
+
+        PendingWrite pending = new PendingWrite(data, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future().completeExceptionally(e);
+        }
+        return pending.future();
+    }
+
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // linger 시간 동안 batchSize 까지 추가로 모음
+    private void fillBatch(List<PendingWrite> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + config.getLinger().toNanos();
+        while (batch.size() < config.getBatchSize()) {
+            queue.drainTo(batch, config.getBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= config.getBatchSize() || remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                allocateIds(connection, batch);
+                copy(connection, batch);
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                batch.forEach(pending -> pending.data().setId(null));
+                throw e;
+            }
+        } catch (Exception e) {
+            log.warn("센서 데이터 대량 저장 실패 - 행 단위로 재시도: {}건, {}", batch.size(), e.getMessage());
+            writeRowByRow(List.copyOf(batch));
+            return;
+        }
+
+        List<PendingWrite> written = List.copyOf(batch);
+        completionExecutor.execute(() -> written.forEach(pending -> pending.future().complete(pending.data())));
+        log.debug("센서 데이터 대량 저장: {}건", batch.size());
+    }
+
+    // COPY 실패 시 한 트랜잭션 안에서 행마다 savepoint 를 두고 INSERT - 실패한 행만 예외로 완료
+    private void writeRowByRow(List<PendingWrite> batch) {
+        List<Exception> failures = new ArrayList<>(Collections.nCopies(batch.size(), null));
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    SensorData data = batch.get(i).data();
+                    Savepoint savepoint = connection.setSavepoint();
+                    try {
+                        data.setId(insert(statement, data));
+                        connection.releaseSavepoint(savepoint);
+                    } catch (SQLException e) {
+                        connection.rollback(savepoint);
+                        data.setId(null);
+                        failures.set(i, e);
+                    }
+                }
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            log.error("센서 데이터 저장 실패: {}건, {}", batch.size(), e.getMessage(), e);
+            batch.forEach(pending -> pending.data().setId(null));
+            completionExecutor.execute(() -> batch.forEach(pending -> pending.future().completeExceptionally(e)));
+            return;
+        }
+
+        long failed = failures.stream().filter(Objects::nonNull).count();
+        if (failed > 0) {
+            log.error("센서 데이터 행 단위 저장 중 실패: {}건 중 {}건, 첫 오류: {}", batch.size(), failed,
+                    failures.stream().filter(Objects::nonNull).findFirst().map(Exception::getMessage).orElse(null));
+        }
+        completionExecutor.execute(() -> {
+            for (int i = 0; i < batch.size(); i++) {
+                PendingWrite pending = batch.get(i);
+                if (failures.get(i) == null) {
+                    pending.future().complete(pending.data());
+                } else {
+                    pending.future().completeExceptionally(failures.get(i));
+                }
+            }
+        });
+    }
+
+    private static long insert(PreparedStatement statement, SensorData data) throws SQLException {
+        statement.setString(1, data.getType());
+        statement.setFloat(2, data.getSensorValue());
+        statement.setString(3, data.getUnit());
+        statement.setString(4, data.getDeviceId());
+        statement.setTimestamp(5, Timestamp.valueOf(data.getCreatedAt()));
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void allocateIds(Connection connection, List<PendingWrite> batch) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(ALLOCATE_IDS_SQL)) {
+            statement.setInt(1, batch.size());
+            try (ResultSet rs = statement.executeQuery()) {
+                for (PendingWrite pending : batch) {
+                    rs.next();
+                    pending.data().setId(rs.getLong(1));
+                }
+            }
+        }
+    }
+
+    private void copy(Connection connection, List<PendingWrite> batch) throws SQLException, IOException {
+        byte[] payload = encode(batch.stream().map(PendingWrite::data).toList());
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            copyIn.writeToCopy(payload, 0, payload.length);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    // PostgreSQL 바이너리 COPY 포맷: 헤더 + 튜플(필드 수, [길이, 값]...) + 트레일러(-1)
+    static byte[] encode(List<SensorData> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows.size() * 64 + 32);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.write(COPY_SIGNATURE);
+        out.writeInt(0); // flags
+        out.writeInt(0); // header extension length
+
+        for (SensorData data : rows) {
+            out.writeShort(COLUMN_COUNT);
+
+            out.writeInt(8);
+            out.writeLong(data.getId());
+            writeText(out, data.getType());
+            out.writeInt(4);
+            out.writeFloat(data.getSensorValue());
+            writeText(out, data.getUnit());
+            writeText(out, data.getDeviceId());
+            out.writeInt(8);
+            out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH, data.getCreatedAt()));
+        }
+
+        out.writeShort(-1);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private record PendingWrite(SensorData data, CompletableFuture<SensorData> future) {
+    }
+}
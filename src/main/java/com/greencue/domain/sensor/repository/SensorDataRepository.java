@@ -1,10 +1,13 @@
 package com.greencue.domain.sensor.repository;
 
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
 import com.greencue.domain.sensor.model.SensorData;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,16 +15,35 @@ import java.util.List;
 @Repository
 public interface SensorDataRepository extends JpaRepository<SensorData, Long> {
 
-    // 센서 타입별 최신 데이터 조회
-    List<SensorData> findTop10ByTypeOrderByCreatedAtDesc(String type);
+    String RESPONSE_PROJECTION = "SELECT new com.greencue.domain.sensor.api.dto.SensorDataResponse(" +
+            "s.id, s.type, s.sensorValue, s.unit, s.deviceId, s.createdAt) FROM SensorData s ";
+
+    // 센서 타입별 최근 데이터 조회 - 엔티티 대신 응답 레코드로 바로 조회 (영속성 컨텍스트/dirty checking 없음)
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "WHERE s.type = :type ORDER BY s.createdAt DESC")
+    List<SensorDataResponse> findRecentByType(@Param("type") String type, Limit limit);
 
     // 특정 기간 데이터 조회
-    @Query("SELECT s FROM SensorData s WHERE s.type = :type AND s.createdAt BETWEEN :startTime AND :endTime ORDER BY s.createdAt DESC")
-    List<SensorData> findByTypeAndTimeRange(@Param("type") String type,
-                                           @Param("startTime") LocalDateTime startTime,
-                                           @Param("endTime") LocalDateTime endTime);
-
-    // 최신 센서 데이터 조회 (모든 타입)
-    @Query("SELECT s FROM SensorData s WHERE s.id IN (SELECT MAX(s2.id) FROM SensorData s2 GROUP BY s2.type)")
-    List<SensorData> findLatestDataByType();
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "WHERE s.type = :type AND s.createdAt BETWEEN :startTime AND :endTime " +
+            "ORDER BY s.createdAt DESC")
+    List<SensorDataResponse> findByTypeAndTimeRange(@Param("type") String type,
+                                                    @Param("startTime") LocalDateTime startTime,
+                                                    @Param("endTime") LocalDateTime endTime);
+
+    // 특정 장치의 기간 데이터 조회
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + "WHERE s.type = :type AND s.deviceId = :deviceId " +
+            "AND s.createdAt BETWEEN :startTime AND :endTime ORDER BY s.createdAt DESC")
+    List<SensorDataResponse> findByTypeAndDeviceIdAndTimeRange(@Param("type") String type,
+                                                               @Param("deviceId") String deviceId,
+                                                               @Param("startTime") LocalDateTime startTime,
+                                                               @Param("endTime") LocalDateTime endTime);
+
+    // 장치/타입별 최신 센서 데이터 조회 - 최신 값 레지스트리 초기화용 (since 이후 파티션만 탐색)
+    // 늦게 도착한 백필 샘플이 있으므로 ID 가 아닌 측정 시각 기준으로 선택
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT DISTINCT ON (type, device_id) * FROM sensor_data WHERE created_at >= :since " +
+            "ORDER BY type, device_id, created_at DESC, id DESC", nativeQuery = true)
+    List<SensorData> findLatestDataByDevice(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,172 @@
+package com.greencue.domain.sensor.service;
+
+import com.greencue.domain.sensor.aggregation.BucketStatistics;
+import com.greencue.domain.sensor.aggregation.SensorRollupStore;
+import com.greencue.domain.sensor.api.dto.SensorAggregateResponse;
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.exception.InvalidSensorDataException;
+import com.greencue.domain.sensor.storage.SensorArchive;
+import com.greencue.shared.config.SensorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 센서 데이터 서버 측 집계 (타입/장치 × 시간 버킷)
+ * - 롤업이 구간을 덮으면 롤업 병합으로, 아니면 DB 를 커서로 스트리밍하며 버킷별 스케치에 누적
+ * - 구간이 아카이브된 일자와 겹치면 아카이브 세그먼트를 하루씩 읽어 함께 누적 (DB 에 남은 행과는 ID 로 중복 제거)
+ * - 어느 경로든 메모리 사용량은 버킷 수 × 스케치 크기로 제한됨
+ */
+@Service
+@Slf4j
+public class SensorAggregationService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final String RANGE_SQL =
+            "SELECT device_id, sensor_value, created_at, id FROM sensor_data " +
+                    "WHERE type = ? AND created_at >= ? AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SensorProperties.Aggregation config;
+    private SensorRollupStore rollupStore; // Optional - 롤업이 비활성화되면 null
+    private SensorArchive archive; // Optional - 아카이브가 비활성화되면 null
+
+    public SensorAggregationService(JdbcTemplate jdbcTemplate, SensorProperties sensorProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = sensorProperties.getAggregation();
+    }
+
+    // 롤업이 있을 때만 주입
+    @Autowired(required = false)
+    public void setRollupStore(SensorRollupStore rollupStore) {
+        this.rollupStore = rollupStore;
+    }
+
+    // 아카이브가 활성화된 경우에만 주입
+    @Autowired(required = false)
+    public void setArchive(SensorArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * [startTime, endTime) 구간을 interval 버킷으로 집계
+     */
+    @Transactional(readOnly = true)
+    public List<SensorAggregateResponse> aggregate(String type, LocalDateTime startTime, LocalDateTime endTime,
+                                                   Duration interval, boolean groupByDevice, List<Double> percentiles) {
+        long from = toEpochMillis(startTime);
+        long to = toEpochMillis(endTime);
+        long intervalMillis = interval.toMillis();
+        validate(from, to, intervalMillis, percentiles);
+
+        Map<BucketKey, BucketStatistics> buckets = new TreeMap<>(BucketKey.ORDER);
+        if (rollupStore != null && rollupStore.covers(from, to, intervalMillis)) {
+            rollupStore.forEach(type, from, to, (deviceId, bucketStart, stats) ->
+                    bucketFor(buckets, from, intervalMillis, groupByDevice ? deviceId : null, bucketStart).merge(stats));
+        } else {
+            LocalDateTime archivedUntil = archive != null ? archive.archivedUntil() : null;
+            LocalDateTime archiveEnd = archivedUntil != null && startTime.isBefore(archivedUntil)
+                    ? (endTime.isBefore(archivedUntil) ? endTime : archivedUntil) : null;
+
+            // 아카이브 후 DB 삭제 전에 중단된 일자는 양쪽에 모두 있을 수 있으므로 아카이브 구간의 DB 행 ID 를 기억
+            Set<Long> liveArchivedIds = new HashSet<>();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(RANGE_SQL);
+                statement.setFetchSize(config.getFetchSize());
+                statement.setString(1, type);
+                statement.setTimestamp(2, Timestamp.valueOf(startTime));
+                statement.setTimestamp(3, Timestamp.valueOf(endTime));
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                String deviceId = groupByDevice ? rs.getString(1) : null;
+                LocalDateTime createdAt = rs.getTimestamp(3).toLocalDateTime();
+                if (archiveEnd != null && createdAt.isBefore(archiveEnd)) {
+                    liveArchivedIds.add(rs.getLong(4));
+                }
+                bucketFor(buckets, from, intervalMillis, deviceId, toEpochMillis(createdAt)).add(rs.getFloat(2));
+            });
+
+            if (archiveEnd != null) {
+                addArchived(buckets, type, startTime, archiveEnd, from, intervalMillis, groupByDevice, liveArchivedIds);
+            }
+        }
+
+        return buckets.entrySet().stream()
+                .map(entry -> SensorAggregateResponse.of(type, entry.getKey().deviceId(),
+                        toLocalDateTime(entry.getKey().bucketStart()), entry.getValue(), percentiles))
+                .toList();
+    }
+
+    // 메모리 사용량을 하루치로 제한하기 위해 아카이브를 일자 단위로 읽음
+    private void addArchived(Map<BucketKey, BucketStatistics> buckets, String type,
+                             LocalDateTime startTime, LocalDateTime endTime, long from, long intervalMillis,
+                             boolean groupByDevice, Set<Long> skipIds) {
+        LocalDateTime dayStart = startTime;
+        while (dayStart.isBefore(endTime)) {
+            LocalDateTime nextDay = dayStart.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime dayEnd = nextDay.isBefore(endTime) ? nextDay : endTime;
+            for (SensorDataResponse row : archive.read(type, null, dayStart, dayEnd)) {
+                if (row.sensorValue() == null || skipIds.contains(row.id())) {
+                    continue;
+                }
+                bucketFor(buckets, from, intervalMillis, groupByDevice ? row.deviceId() : null,
+                        toEpochMillis(row.createdAt())).add(row.sensorValue());
+            }
+            dayStart = dayEnd;
+        }
+    }
+
+    private void validate(long from, long to, long intervalMillis, List<Double> percentiles) {
+        if (intervalMillis <= 0) {
+            throw new InvalidSensorDataException("집계 간격은 0보다 커야 합니다.");
+        }
+        if (from >= to) {
+            throw new InvalidSensorDataException("시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        if ((to - from) / intervalMillis > config.getMaxBuckets()) {
+            throw new InvalidSensorDataException("집계 버킷 수가 최대치를 초과합니다: " + config.getMaxBuckets());
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || percentile <= 0 || percentile >= 100) {
+                throw new InvalidSensorDataException("백분위수는 0과 100 사이여야 합니다: " + percentile);
+            }
+        }
+    }
+
+    private BucketStatistics bucketFor(Map<BucketKey, BucketStatistics> buckets, long from, long intervalMillis,
+                                       String deviceId, long timestamp) {
+        long bucketStart = from + Math.floorDiv(timestamp - from, intervalMillis) * intervalMillis;
+        return buckets.computeIfAbsent(new BucketKey(deviceId, bucketStart),
+                k -> new BucketStatistics(config.getCompression()));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+
+    private record BucketKey(String deviceId, long bucketStart) {
+        static final Comparator<BucketKey> ORDER = Comparator
+                .comparingLong(BucketKey::bucketStart)
+                .thenComparing(BucketKey::deviceId, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+}
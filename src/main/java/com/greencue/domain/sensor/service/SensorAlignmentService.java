@@ -0,0 +1,188 @@
+package com.greencue.domain.sensor.service;
+
+import com.greencue.domain.sensor.api.dto.AlignedSensorResponse;
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.exception.InvalidSensorDataException;
+import com.greencue.domain.sensor.model.DerivedMetric;
+import com.greencue.domain.sensor.model.SensorType;
+import com.greencue.shared.config.SensorProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 여러 센서 타입을 시간 버킷으로 정렬하여 한 번에 조회
+ * - 타입별 조회는 가상 스레드에서 동시에 수행
+ * - 타입별 시계열을 버킷 순서대로 한 번에 병합(merge-join)하면서 버킷 평균과 파생 지표를 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SensorAlignmentService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final SensorDataService sensorDataService;
+    private final SensorProperties sensorProperties;
+
+    /**
+     * [startTime, endTime) 구간을 interval 버킷으로 정렬한 다중 센서 시계열
+     */
+    public List<AlignedSensorResponse> getAlignedData(List<String> types, String deviceId,
+                                                      LocalDateTime startTime, LocalDateTime endTime,
+                                                      Duration interval, List<DerivedMetric> derived) {
+        long from = toEpochMillis(startTime);
+        long to = toEpochMillis(endTime);
+        long intervalMillis = interval.toMillis();
+        validate(types, from, to, intervalMillis);
+
+        // 파생 지표에 필요한 온도/습도는 자동으로 포함
+        Set<String> requested = new LinkedHashSet<>(types);
+        if (!derived.isEmpty()) {
+            requested.add(SensorType.TEMPERATURE.getCode());
+            requested.add(SensorType.HUMIDITY.getCode());
+        }
+
+        List<String> typeList = List.copyOf(requested);
+        List<List<SensorDataResponse>> series = fetchConcurrently(typeList, deviceId, startTime, endTime);
+        return mergeJoin(typeList, series, from, to, intervalMillis, derived);
+    }
+
+    private List<List<SensorDataResponse>> fetchConcurrently(List<String> types, String deviceId,
+                                                             LocalDateTime startTime, LocalDateTime endTime) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<SensorDataResponse>>> futures = types.stream()
+                    .map(type -> executor.submit(() ->
+                            sensorDataService.getDataByTimeRange(type, deviceId, startTime, endTime)))
+                    .toList();
+
+            List<List<SensorDataResponse>> results = new ArrayList<>(futures.size());
+            for (Future<List<SensorDataResponse>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new InvalidSensorDataException("센서 데이터 조회 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidSensorDataException("센서 데이터 조회가 중단되었습니다.", e);
+        }
+    }
+
+    // 각 시계열(최신순)을 뒤에서부터 읽어 버킷 오름차순으로 한 번에 병합
+    private List<AlignedSensorResponse> mergeJoin(List<String> types, List<List<SensorDataResponse>> series,
+                                                  long from, long to, long intervalMillis,
+                                                  List<DerivedMetric> derived) {
+        int[] cursors = new int[series.size()];
+        for (int i = 0; i < series.size(); i++) {
+            cursors[i] = series.get(i).size() - 1;
+        }
+
+        List<AlignedSensorResponse> rows = new ArrayList<>();
+        while (true) {
+            long bucket = Long.MAX_VALUE;
+            for (int i = 0; i < series.size(); i++) {
+                skipOutOfRange(series.get(i), cursors, i, from, to);
+                if (cursors[i] >= 0) {
+                    bucket = Math.min(bucket, bucketOf(series.get(i).get(cursors[i]), from, intervalMillis));
+                }
+            }
+            if (bucket == Long.MAX_VALUE) {
+                return rows;
+            }
+
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (int i = 0; i < series.size(); i++) {
+                values.put(types.get(i), averageBucket(series.get(i), cursors, i, bucket, from, to, intervalMillis));
+            }
+            rows.add(new AlignedSensorResponse(toLocalDateTime(bucket), values, derive(values, derived)));
+        }
+    }
+
+    // 현재 버킷에 속한 샘플을 소비하며 평균 계산 (없으면 null)
+    private Double averageBucket(List<SensorDataResponse> data, int[] cursors, int index,
+                                 long bucket, long from, long to, long intervalMillis) {
+        double sum = 0;
+        int count = 0;
+        while (cursors[index] >= 0) {
+            SensorDataResponse sample = data.get(cursors[index]);
+            long timestamp = toEpochMillis(sample.createdAt());
+            if (timestamp >= to || bucketOf(sample, from, intervalMillis) != bucket) {
+                break;
+            }
+            sum += sample.sensorValue();
+            count++;
+            cursors[index]--;
+        }
+        return count > 0 ? sum / count : null;
+    }
+
+    private void skipOutOfRange(List<SensorDataResponse> data, int[] cursors, int index, long from, long to) {
+        while (cursors[index] >= 0) {
+            long timestamp = toEpochMillis(data.get(cursors[index]).createdAt());
+            if (timestamp >= from && timestamp < to) {
+                return;
+            }
+            cursors[index]--;
+        }
+    }
+
+    private Map<String, Double> derive(Map<String, Double> values, List<DerivedMetric> derived) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        Double temperature = values.get(SensorType.TEMPERATURE.getCode());
+        Double humidity = values.get(SensorType.HUMIDITY.getCode());
+        if (temperature == null || humidity == null || humidity <= 0) {
+            return result;
+        }
+        for (DerivedMetric metric : derived) {
+            result.put(metric.getCode(), metric.compute(temperature, humidity));
+        }
+        return result;
+    }
+
+    private void validate(List<String> types, long from, long to, long intervalMillis) {
+        if (types.isEmpty()) {
+            throw new InvalidSensorDataException("조회할 센서 타입이 필요합니다.");
+        }
+        if (intervalMillis <= 0) {
+            throw new InvalidSensorDataException("정렬 간격은 0보다 커야 합니다.");
+        }
+        if (from >= to) {
+            throw new InvalidSensorDataException("시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        int maxBuckets = sensorProperties.getAggregation().getMaxBuckets();
+        if ((to - from) / intervalMillis > maxBuckets) {
+            throw new InvalidSensorDataException("정렬 버킷 수가 최대치를 초과합니다: " + maxBuckets);
+        }
+    }
+
+    private static long bucketOf(SensorDataResponse sample, long from, long intervalMillis) {
+        return from + Math.floorDiv(toEpochMillis(sample.createdAt()) - from, intervalMillis) * intervalMillis;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+}
@@ -1,93 +1,393 @@
 package com.greencue.domain.sensor.service;
 
+import com.greencue.domain.sensor.aggregation.SensorRollupStore;
 import com.greencue.domain.sensor.api.dto.SensorDataRequest;
 import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.api.dto.SensorIngestSummary;
+import com.greencue.domain.sensor.exception.InvalidSensorDataException;
 import com.greencue.domain.sensor.model.SensorData;
+import com.greencue.domain.sensor.repository.SensorDataBulkWriter;
 import com.greencue.domain.sensor.repository.SensorDataRepository;
+import com.greencue.domain.sensor.storage.SensorArchive;
+import com.greencue.domain.sensor.storage.SensorHotTier;
+import com.greencue.domain.sensor.storage.SensorLatestRegistry;
+import com.greencue.domain.sensor.stream.SensorLiveBroadcaster;
+import com.greencue.shared.config.SensorProperties;
+import com.greencue.shared.infrastructure.redis.SensorRedisCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @Slf4j
 public class SensorDataService {
 
+    public static final int MAX_RECENT_LIMIT = 100; // 최근 데이터 조회 1회 최대 건수
+
     private final SensorDataRepository sensorDataRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-    private RedisTemplate<String, Object> redisTemplate;
+    private final SensorLiveBroadcaster liveBroadcaster;
+    private final SensorProperties sensorProperties;
+    private final SensorLatestRegistry latestRegistry;
+    private SensorRedisCache redisCache; // Optional - Redis 캐시가 비활성화되면 null
+    private SensorHotTier hotTier; // Optional - 핫 티어가 비활성화되면 null
+    private SensorDataBulkWriter bulkWriter; // Optional - 대량 저장기가 비활성화되면 null
+    private SensorRollupStore rollupStore; // Optional - 집계 롤업이 비활성화되면 null
+    private SensorArchive archive; // Optional - 아카이브가 비활성화되면 null
 
     @Autowired
     public SensorDataService(SensorDataRepository sensorDataRepository,
-                            SimpMessagingTemplate messagingTemplate) {
+                            SensorLiveBroadcaster liveBroadcaster,
+                            SensorProperties sensorProperties,
+                            SensorLatestRegistry latestRegistry) {
         this.sensorDataRepository = sensorDataRepository;
-        this.messagingTemplate = messagingTemplate;
-        this.redisTemplate = null;
+        this.liveBroadcaster = liveBroadcaster;
+        this.sensorProperties = sensorProperties;
+        this.latestRegistry = latestRegistry;
+    }
+
+    // Redis 캐시가 활성화된 경우에만 주입
+    @Autowired(required = false)
+    public void setRedisCache(SensorRedisCache redisCache) {
+        this.redisCache = redisCache;
+    }
+
+    // 핫 티어가 있을 때만 주입
+    @Autowired(required = false)
+    public void setHotTier(SensorHotTier hotTier) {
+        this.hotTier = hotTier;
+    }
+
+    // 대량 저장기가 활성화된 경우에만 주입
+    @Autowired(required = false)
+    public void setBulkWriter(SensorDataBulkWriter bulkWriter) {
+        this.bulkWriter = bulkWriter;
+    }
+
+    // 집계 롤업이 활성화된 경우에만 주입
+    @Autowired(required = false)
+    public void setRollupStore(SensorRollupStore rollupStore) {
+        this.rollupStore = rollupStore;
     }
 
-    // Redis가 있을 때만 주입
+    // 아카이브가 활성화된 경우에만 주입
     @Autowired(required = false)
-    public void setRedisTemplate(RedisTemplate<String, Object> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public void setArchive(SensorArchive archive) {
+        this.archive = archive;
+    }
+
+    // 기동 시 DB 에서 장치/타입별 최신 값을 읽어 레지스트리 초기화
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpLatestRegistry() {
+        LocalDateTime since = LocalDateTime.now().minus(sensorProperties.getLatestLookback());
+        List<SensorData> latestData = sensorDataRepository.findLatestDataByDevice(since);
+        latestData.forEach(data -> latestRegistry.update(SensorDataResponse.fromEntity(data)));
+        log.info("최신 센서 값 레지스트리 초기화: {}건", latestData.size());
     }
 
     // 센서 데이터 저장
     public SensorDataResponse saveSensorData(SensorDataRequest dto) {
-        SensorData sensorData = dto.toEntity();
-        SensorData saved = sensorDataRepository.save(sensorData);
+        SensorData saved = sensorDataRepository.save(toEntity(dto));
+        return logSaved(afterSaved(saved));
+    }
+
+    // 고빈도 수집용 비동기 저장 - 대량 저장기(COPY, group commit)가 있으면 사용
+    public CompletableFuture<SensorDataResponse> ingestSensorData(SensorDataRequest dto) {
+        if (bulkWriter == null) {
+            return CompletableFuture.completedFuture(saveSensorData(dto));
+        }
+        return bulkWriter.submit(toEntity(dto)).thenApply(saved -> logSaved(afterSaved(saved)));
+    }
+
+    // 측정값 일괄 저장 (백필 포함) - 잘못된 샘플은 건너뛰고 나머지만 저장
+    public SensorIngestSummary ingestBatch(List<SensorDataRequest> readings) {
+        int maxBatchSize = sensorProperties.getIngest().getMaxBatchSize();
+        if (readings.size() > maxBatchSize) {
+            throw new InvalidSensorDataException("한 번에 저장할 수 있는 샘플 수를 초과했습니다: " + maxBatchSize);
+        }
+
+        List<String> errors = new ArrayList<>();
+        List<SensorData> entities = new ArrayList<>(readings.size());
+        for (SensorDataRequest reading : readings) {
+            try {
+                entities.add(toEntity(reading));
+            } catch (InvalidSensorDataException e) {
+                addError(errors, e.getMessage());
+            }
+        }
+        // 측정 시각 순으로 반영해야 핫 티어 블록 압축률이 유지됨
+        entities.sort(Comparator.comparing(SensorData::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<SensorData> saved = persistBatch(entities, errors);
+
+        // 배치 안에서는 장치/타입별로 마지막에 바뀐 최신 값만 전파
+        Map<String, SensorDataResponse> changed = new LinkedHashMap<>();
+        for (SensorData data : saved) {
+            SensorDataResponse response = SensorDataResponse.fromEntity(data);
+            if (record(data, response)) {
+                changed.put(response.type() + "/" + response.deviceId(), response);
+            }
+        }
+        changed.values().forEach(this::publish);
+        // 배치에서 바뀐 최신 값은 다음 flush 주기를 기다리지 않고 파이프라인 한 번으로 Redis 에 반영
+        if (redisCache != null && !changed.isEmpty()) {
+            redisCache.flush();
+        }
+
+        LocalDateTime oldest = saved.isEmpty() ? null : saved.get(0).getCreatedAt();
+        LocalDateTime newest = saved.isEmpty() ? null : saved.get(saved.size() - 1).getCreatedAt();
+        log.info("센서 데이터 일괄 저장: {}건 중 {}건 저장 ({} ~ {})", readings.size(), saved.size(), oldest, newest);
+        return new SensorIngestSummary(readings.size(), saved.size(), readings.size() - saved.size(),
+                oldest, newest, List.copyOf(errors));
+    }
+
+    // 스트리밍 일괄 저장 - 본문을 읽는 대로 배치 크기만큼 모아 저장하고 배치별 결과를 합산
+    // 본문 해석 오류가 나면 그때까지 읽은 샘플만 저장하고 중단
+    public SensorIngestSummary ingestStream(Iterator<SensorDataRequest> readings) {
+        int batchSize = sensorProperties.getIngest().getStreamBatchSize();
+        SensorIngestSummary summary = SensorIngestSummary.empty();
+        List<SensorDataRequest> batch = new ArrayList<>(batchSize);
+        while (true) {
+            SensorDataRequest reading;
+            try {
+                if (!readings.hasNext()) {
+                    break;
+                }
+                reading = readings.next();
+            } catch (RuntimeException e) {
+                summary = summary.withError("본문 해석 중단: " + e.getMessage());
+                break;
+            }
+
+            batch.add(reading);
+            if (batch.size() >= batchSize) {
+                summary = summary.merge(ingestBatch(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            summary = summary.merge(ingestBatch(batch));
+        }
+        return summary;
+    }
+
+    private List<SensorData> persistBatch(List<SensorData> entities, List<String> errors) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        if (bulkWriter == null) {
+            return sensorDataRepository.saveAll(entities);
+        }
+
+        List<CompletableFuture<SensorData>> futures = entities.stream()
+                .map(bulkWriter::submit)
+                .toList();
+        List<SensorData> saved = new ArrayList<>(futures.size());
+        for (CompletableFuture<SensorData> future : futures) {
+            try {
+                saved.add(future.join());
+            } catch (CompletionException e) {
+                addError(errors, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        }
+        return saved;
+    }
+
+    // 필수 값과 측정 시각을 검증하여 엔티티로 변환
+    private SensorData toEntity(SensorDataRequest dto) {
+        if (dto.type() == null || dto.sensorValue() == null || dto.unit() == null) {
+            throw new InvalidSensorDataException("센서 타입, 값, 단위는 필수입니다: " + dto.type());
+        }
 
-        // Redis에 최신 데이터 캐시 (Redis가 활성화된 경우에만)
-        if (redisTemplate != null) {
-            String cacheKey = "sensor:latest:" + dto.type();
-            redisTemplate.opsForValue().set(cacheKey, saved);
+        LocalDateTime measuredAt = dto.measuredAt();
+        if (measuredAt != null) {
+            SensorProperties.Ingest config = sensorProperties.getIngest();
+            LocalDateTime now = LocalDateTime.now();
+            if (measuredAt.isAfter(now.plus(config.getMaxClockSkew()))) {
+                throw new InvalidSensorDataException("측정 시각이 서버 시각보다 미래입니다: " + measuredAt);
+            }
+            if (measuredAt.isBefore(now.minus(config.getMaxBackfillAge()))) {
+                throw new InvalidSensorDataException("백필 허용 기간보다 오래된 측정 시각입니다: " + measuredAt);
+            }
+        }
+        return dto.toEntity();
+    }
+
+    private static void addError(List<String> errors, String message) {
+        if (errors.size() < SensorIngestSummary.MAX_REPORTED_ERRORS) {
+            errors.add(message);
+        }
+    }
+
+    // 저장 이후 처리: 핫 티어, 집계 롤업, 최신 값 레지스트리, 캐시, WebSocket 전송
+    private SensorDataResponse afterSaved(SensorData saved) {
+        SensorDataResponse response = SensorDataResponse.fromEntity(saved);
+        if (record(saved, response)) {
+            publish(response);
+        }
+        return response;
+    }
+
+    // 핫 티어, 집계 롤업, 최신 값 레지스트리 반영 - 최신 값이 바뀌었으면 true
+    private boolean record(SensorData saved, SensorDataResponse response) {
+        // 최근 이력 조회용 핫 티어에 추가 (늦게 도착한 샘플도 측정 시각 기준으로 조회됨)
+        if (hotTier != null) {
+            hotTier.append(saved);
+        }
+
+        // 서버 측 집계용 롤업 갱신 - 측정 시각의 버킷에 반영
+        if (rollupStore != null) {
+            rollupStore.record(saved.getType(), saved.getDeviceId(), saved.getSensorValue(),
+                    saved.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
         }
 
-        // WebSocket으로 실시간 전송
-        messagingTemplate.convertAndSend("/topic/sensor-data", SensorDataResponse.fromEntity(saved));
+        return latestRegistry.update(response);
+    }
 
-        log.info("센서 데이터 저장: {} = {} {}", dto.type(), dto.sensorValue(), dto.unit());
+    // 최신 값이 바뀐 경우에만 Redis 캐시와 WebSocket 으로 전파
+    // (늦게 도착한 과거 샘플이 실시간 화면의 현재 값을 덮어쓰지 않도록 함)
+    private void publish(SensorDataResponse response) {
+        if (redisCache != null) {
+            redisCache.enqueue(response);
+        }
+        liveBroadcaster.submit(response);
+    }
 
-        return SensorDataResponse.fromEntity(saved);
+    private SensorDataResponse logSaved(SensorDataResponse response) {
+        log.info("센서 데이터 저장: {} = {} {}", response.type(), response.sensorValue(), response.unit());
+        return response;
     }
 
     // 센서 타입별 최신 데이터 조회
     public List<SensorDataResponse> getLatestDataByType() {
-        List<SensorData> latestData = sensorDataRepository.findLatestDataByType();
-        return latestData.stream()
-                .map(SensorDataResponse::fromEntity)
-                .toList();
+        return latestRegistry.latestByType();
+    }
+
+    // 타입별 최신 데이터 목록의 버전 - 최신 값이 바뀔 때마다 증가
+    public long getLatestVersion() {
+        return latestRegistry.version();
+    }
+
+    // 타입별 샘플 반영 리비전 - 최근 이력이 바뀔 수 있을 때마다 증가
+    public long getTypeRevision(String type) {
+        return latestRegistry.typeRevision(type);
+    }
+
+    // 장치별 최신 데이터 목록의 버전 (이 노드가 모르는 장치는 0)
+    public long getLatestDeviceVersion(String deviceId) {
+        return latestRegistry.deviceVersion(deviceId);
+    }
+
+    // 특정 센서 타입의 최신 데이터 조회 (없으면 null)
+    public SensorDataResponse getLatestByType(String type) {
+        return latestRegistry.latest(type).orElse(null);
+    }
+
+    // 장치별 센서 최신 데이터 조회 - 이 노드가 모르는 장치는 Redis 캐시에서 조회
+    public List<SensorDataResponse> getLatestDataByDevice(String deviceId) {
+        List<SensorDataResponse> latestData = latestRegistry.latestByDevice(deviceId);
+        if (latestData.isEmpty() && redisCache != null) {
+            return redisCache.getDeviceSamples(deviceId);
+        }
+        return latestData;
+    }
+
+    // 최근 데이터 조회 건수 확인 - 0 이하는 거부, 최대 건수를 넘으면 최대 건수로 제한
+    public int resolveRecentLimit(int limit) {
+        if (limit <= 0) {
+            throw new InvalidSensorDataException("조회 건수는 1 이상이어야 합니다: " + limit);
+        }
+        return Math.min(limit, MAX_RECENT_LIMIT);
     }
 
     // 센서 타입별 최근 데이터 조회
     public List<SensorDataResponse> getRecentDataByType(String type, int limit) {
-        List<SensorData> recentData = sensorDataRepository.findTop10ByTypeOrderByCreatedAtDesc(type);
-        return recentData.stream()
-                .limit(limit)
-                .map(SensorDataResponse::fromEntity)
-                .toList();
+        limit = resolveRecentLimit(limit);
+        if (hotTier != null) {
+            Optional<List<SensorDataResponse>> cached = hotTier.recent(type, limit);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        return sensorDataRepository.findRecentByType(type, Limit.of(limit));
     }
 
     // 특정 기간 데이터 조회
     public List<SensorDataResponse> getDataByTimeRange(String type, LocalDateTime startTime, LocalDateTime endTime) {
-        List<SensorData> data = sensorDataRepository.findByTypeAndTimeRange(type, startTime, endTime);
-        return data.stream()
-                .map(SensorDataResponse::fromEntity)
-                .toList();
+        if (hotTier != null) {
+            Optional<List<SensorDataResponse>> cached = hotTier.range(type, startTime, endTime);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        List<SensorDataResponse> data = sensorDataRepository.findByTypeAndTimeRange(type, startTime, endTime);
+        return withArchive(type, null, startTime, endTime, data);
+    }
+
+    // 특정 장치의 기간 데이터 조회 (deviceId 가 없으면 전체 장치)
+    public List<SensorDataResponse> getDataByTimeRange(String type, String deviceId,
+                                                       LocalDateTime startTime, LocalDateTime endTime) {
+        if (deviceId == null) {
+            return getDataByTimeRange(type, startTime, endTime);
+        }
+        if (hotTier != null) {
+            Optional<List<SensorDataResponse>> cached = hotTier.range(type, startTime, endTime);
+            if (cached.isPresent()) {
+                return cached.get().stream()
+                        .filter(data -> deviceId.equals(data.deviceId()))
+                        .toList();
+            }
+        }
+
+        List<SensorDataResponse> data =
+                sensorDataRepository.findByTypeAndDeviceIdAndTimeRange(type, deviceId, startTime, endTime);
+        return withArchive(type, deviceId, startTime, endTime, data);
     }
 
-    // Redis에서 최신 데이터 조회
-    public SensorDataResponse getLatestFromCache(String type) {
-        if (redisTemplate == null) {
-            log.warn("Redis가 비활성화되어 있어 캐시에서 데이터를 조회할 수 없습니다.");
-            return null;
+    // 조회 구간이 아카이브된 일자와 겹치면 아카이브 데이터와 합쳐 최신순으로 반환
+    private List<SensorDataResponse> withArchive(String type, String deviceId,
+                                                 LocalDateTime startTime, LocalDateTime endTime,
+                                                 List<SensorDataResponse> live) {
+        if (archive == null) {
+            return live;
+        }
+        LocalDateTime archivedUntil = archive.archivedUntil();
+        if (archivedUntil == null || !startTime.isBefore(archivedUntil)) {
+            return live;
+        }
+
+        List<SensorDataResponse> archived = archive.read(type, deviceId, startTime, endTime);
+        if (archived.isEmpty()) {
+            return live;
         }
 
-        String cacheKey = "sensor:latest:" + type;
-        SensorData cached = (SensorData) redisTemplate.opsForValue().get(cacheKey);
-        return cached != null ? SensorDataResponse.fromEntity(cached) : null;
+        // 아카이브 후 DB 삭제 전에 중단된 일자는 양쪽에 모두 있을 수 있으므로 ID 로 중복 제거
+        Set<Long> liveIds = new HashSet<>();
+        live.forEach(data -> liveIds.add(data.id()));
+        List<SensorDataResponse> merged = new ArrayList<>(live.size() + archived.size());
+        merged.addAll(live);
+        archived.stream()
+                .filter(data -> !liveIds.contains(data.id()))
+                .forEach(merged::add);
+        merged.sort(Comparator.comparing(SensorDataResponse::createdAt).reversed());
+        return merged;
     }
 }
@@ -0,0 +1,226 @@
+package com.greencue.domain.sensor.storage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gorilla 방식으로 압축된 센서 샘플 블록 (off-heap ByteBuffer)
+ * - 타임스탬프: delta-of-delta, ID: delta, 값: 이전 값과의 XOR
+ * - 스레드 안전하지 않으므로 호출 측(시리즈)에서 동기화해야 함
+ */
+public class GorillaBlock {
+
+    // 샘플 하나의 최악 인코딩 크기 (타임스탬프 68 + ID 68 + 값 45 비트) + 부분 바이트 여유
+    private static final int MAX_SAMPLE_BYTES = 24;
+
+    private final ByteBuffer buffer;
+    private long bitPosition;
+
+    private int count;
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+
+    private long previousTimestamp;
+    private long previousDelta;
+    private long previousId;
+    private int previousValueBits;
+    private int previousLeading = -1;
+    private int previousTrailing;
+
+    public GorillaBlock(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 샘플 추가 - 블록에 여유 공간이 없으면 false
+     */
+    public boolean append(long id, long timestamp, float value) {
+        if (buffer.capacity() - (bitPosition >>> 3) < MAX_SAMPLE_BYTES) {
+            return false;
+        }
+
+        int valueBits = Float.floatToRawIntBits(value);
+        if (count == 0) {
+            writeBits(timestamp, 64);
+            writeBits(id, 64);
+            writeBits(valueBits, 32);
+            previousLeading = -1;
+        } else {
+            long delta = timestamp - previousTimestamp;
+            writeSigned(delta - previousDelta);
+            writeSigned(id - previousId);
+            writeValue(valueBits);
+            previousDelta = delta;
+        }
+
+        previousTimestamp = timestamp;
+        previousId = id;
+        previousValueBits = valueBits;
+        minTimestamp = Math.min(minTimestamp, timestamp);
+        maxTimestamp = Math.max(maxTimestamp, timestamp);
+        count++;
+        return true;
+    }
+
+    /**
+     * 블록의 모든 샘플을 저장 순서대로 복원
+     */
+    public List<HotSample> decode() {
+        List<HotSample> samples = new ArrayList<>(count);
+        Reader reader = new Reader();
+        if (count == 0) {
+            return samples;
+        }
+
+        long timestamp = reader.readBits(64);
+        long id = reader.readBits(64);
+        int valueBits = (int) reader.readBits(32);
+        samples.add(new HotSample(id, timestamp, Float.intBitsToFloat(valueBits)));
+
+        long delta = 0;
+        for (int i = 1; i < count; i++) {
+            delta += reader.readSigned();
+            timestamp += delta;
+            id += reader.readSigned();
+            valueBits = reader.readValue(valueBits);
+            samples.add(new HotSample(id, timestamp, Float.intBitsToFloat(valueBits)));
+        }
+        return samples;
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long minTimestamp() {
+        return minTimestamp;
+    }
+
+    public long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    // 0 / 10+8 / 110+12 / 1110+20 / 1111+64 비트 버킷
+    private void writeSigned(long value) {
+        if (value == 0) {
+            writeBits(0b0, 1);
+        } else if (fits(value, 8)) {
+            writeBits(0b10, 2);
+            writeBits(value, 8);
+        } else if (fits(value, 12)) {
+            writeBits(0b110, 3);
+            writeBits(value, 12);
+        } else if (fits(value, 20)) {
+            writeBits(0b1110, 4);
+            writeBits(value, 20);
+        } else {
+            writeBits(0b1111, 4);
+            writeBits(value, 64);
+        }
+    }
+
+    private void writeValue(int valueBits) {
+        int xor = valueBits ^ previousValueBits;
+        if (xor == 0) {
+            writeBits(0b0, 1);
+            return;
+        }
+
+        int leading = Math.min(Integer.numberOfLeadingZeros(xor), 31);
+        int trailing = Integer.numberOfTrailingZeros(xor);
+
+        if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+            // 이전 유효 비트 구간 재사용
+            writeBits(0b10, 2);
+            writeBits(xor >>> previousTrailing, 32 - previousLeading - previousTrailing);
+        } else {
+            int significant = 32 - leading - trailing;
+            writeBits(0b11, 2);
+            writeBits(leading, 5);
+            writeBits(significant - 1, 5);
+            writeBits(xor >>> trailing, significant);
+            previousLeading = leading;
+            previousTrailing = trailing;
+        }
+    }
+
+    private void writeBits(long value, int bits) {
+        while (bits > 0) {
+            int byteIndex = (int) (bitPosition >>> 3);
+            int free = 8 - (int) (bitPosition & 7);
+            int take = Math.min(free, bits);
+            int chunk = (int) ((value >>> (bits - take)) & ((1 << take) - 1));
+
+            // 바이트의 첫 비트를 쓸 때는 재사용 버퍼의 이전 내용을 덮어씀
+            int current = free == 8 ? 0 : buffer.get(byteIndex);
+            buffer.put(byteIndex, (byte) (current | (chunk << (free - take))));
+
+            bitPosition += take;
+            bits -= take;
+        }
+    }
+
+    private static boolean fits(long value, int bits) {
+        long bound = 1L << (bits - 1);
+        return value >= -bound && value < bound;
+    }
+
+    private class Reader {
+        private long position;
+        private int leading;
+        private int trailing;
+
+        long readBits(int bits) {
+            long value = 0;
+            while (bits > 0) {
+                int byteIndex = (int) (position >>> 3);
+                int free = 8 - (int) (position & 7);
+                int take = Math.min(free, bits);
+                int chunk = ((buffer.get(byteIndex) & 0xFF) >>> (free - take)) & ((1 << take) - 1);
+
+                value = (value << take) | chunk;
+                position += take;
+                bits -= take;
+            }
+            return value;
+        }
+
+        long readSigned() {
+            if (readBits(1) == 0) {
+                return 0;
+            }
+            if (readBits(1) == 0) {
+                return signExtend(readBits(8), 8);
+            }
+            if (readBits(1) == 0) {
+                return signExtend(readBits(12), 12);
+            }
+            if (readBits(1) == 0) {
+                return signExtend(readBits(20), 20);
+            }
+            return readBits(64);
+        }
+
+        int readValue(int previous) {
+            if (readBits(1) == 0) {
+                return previous;
+            }
+            if (readBits(1) == 1) {
+                leading = (int) readBits(5);
+                trailing = 32 - leading - ((int) readBits(5) + 1);
+            }
+            int significant = 32 - leading - trailing;
+            return previous ^ ((int) readBits(significant) << trailing);
+        }
+
+        private long signExtend(long value, int bits) {
+            int shift = 64 - bits;
+            return (value << shift) >> shift;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.greencue.domain.sensor.storage;
+
+/**
+ * 핫 티어에 보관되는 압축 해제된 센서 샘플
+ */
+public record HotSample(
+        long id,
+        long timestamp,
+        float value
+) {
+}
@@ -0,0 +1,174 @@
+package com.greencue.domain.sensor.storage;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.shared.config.SensorProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 오래된 센서 데이터를 보관하는 로컬 디스크 아카이브
+ * - {directory}/{type}/{yyyy-MM-dd}.seg 형태로 타입·일자별 세그먼트 파일 하나씩 보관
+ * - 기동 시 세그먼트 footer 만 읽어 색인하고, 조회 시 일자와 footer min/max 로 세그먼트를 걸러냄
+ */
+@Component
+@ConditionalOnProperty(prefix = "sensor.archive", name = "enabled", havingValue = "true")
+@Slf4j
+public class SensorArchive {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Comparator<SensorDataResponse> ASCENDING = Comparator
+            .comparing(SensorDataResponse::createdAt)
+            .thenComparing(SensorDataResponse::id);
+
+    private final Path directory;
+    private final Map<String, ConcurrentNavigableMap<LocalDate, SensorArchiveSegment>> segments =
+            new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile LocalDate lastArchivedDay;
+
+    public SensorArchive(SensorProperties sensorProperties) {
+        this.directory = Paths.get(sensorProperties.getArchive().getDirectory());
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        Files.createDirectories(directory);
+        int loaded = 0;
+        try (DirectoryStream<Path> typeDirs = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path typeDir : typeDirs) {
+                String type = typeDir.getFileName().toString();
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(typeDir)) {
+                    for (Path file : files) {
+                        if (loadSegment(type, file)) {
+                            loaded++;
+                        }
+                    }
+                }
+            }
+        }
+        log.info("센서 아카이브 로드: {}개 세그먼트, 마지막 아카이브 일자={}", loaded, lastArchivedDay);
+    }
+
+    private boolean loadSegment(String type, Path file) throws IOException {
+        String name = file.getFileName().toString();
+        if (name.endsWith(TEMP_SUFFIX)) {
+            // 이동 전에 중단된 임시 파일 - 원본 행은 아직 DB 에 남아 있음
+            Files.deleteIfExists(file);
+            return false;
+        }
+        if (!name.endsWith(SEGMENT_SUFFIX)) {
+            return false;
+        }
+        try {
+            LocalDate day = LocalDate.parse(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            register(type, day, SensorArchiveSegment.open(file, type));
+            return true;
+        } catch (DateTimeParseException | IOException e) {
+            log.warn("센서 아카이브 세그먼트를 읽을 수 없어 건너뜁니다: {} ({})", file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 하루치 단일 타입 데이터를 세그먼트로 기록 - 같은 일자의 세그먼트가 있으면 병합하여 교체
+     */
+    public void write(String type, LocalDate day, List<SensorDataResponse> rows) throws IOException {
+        writeLock.lock(); // 파일 I/O 중 대기하므로 synchronized 대신 사용 (가상 스레드 고정 방지)
+        try {
+            writeSegment(type, day, rows);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void writeSegment(String type, LocalDate day, List<SensorDataResponse> rows) throws IOException {
+        Map<Long, SensorDataResponse> merged = new LinkedHashMap<>();
+        SensorArchiveSegment existing = segmentsOf(type).get(day);
+        if (existing != null) {
+            existing.read(null, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+                    .forEach(row -> merged.put(row.id(), row));
+        }
+        rows.forEach(row -> merged.put(row.id(), row));
+
+        List<SensorDataResponse> sorted = new ArrayList<>(merged.values());
+        sorted.sort(ASCENDING);
+
+        Path typeDir = Files.createDirectories(directory.resolve(type));
+        Path target = typeDir.resolve(day + SEGMENT_SUFFIX);
+        Path temp = typeDir.resolve(day + SEGMENT_SUFFIX + TEMP_SUFFIX);
+        SensorArchiveSegment.write(temp, sorted);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        register(type, day, SensorArchiveSegment.open(target, type));
+    }
+
+    /**
+     * [startTime, endTime] 구간의 아카이브 데이터 (최신순, deviceId 가 null 이면 전체 장치)
+     */
+    public List<SensorDataResponse> read(String type, String deviceId,
+                                         LocalDateTime startTime, LocalDateTime endTime) {
+        ConcurrentNavigableMap<LocalDate, SensorArchiveSegment> typeSegments = segments.get(type);
+        if (typeSegments == null || startTime.isAfter(endTime)) {
+            return List.of();
+        }
+
+        List<SensorDataResponse> result = new ArrayList<>();
+        typeSegments.subMap(startTime.toLocalDate(), true, endTime.toLocalDate(), true)
+                .descendingMap()
+                .forEach((day, segment) -> {
+                    try {
+                        List<SensorDataResponse> rows = segment.read(deviceId, startTime, endTime);
+                        for (int i = rows.size() - 1; i >= 0; i--) {
+                            result.add(rows.get(i));
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("센서 아카이브 조회 실패: " + type + " " + day, e);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * 이 시각 이전 구간은 아카이브에도 데이터가 있을 수 있음 (아카이브가 비어 있으면 null)
+     */
+    public LocalDateTime archivedUntil() {
+        LocalDate day = lastArchivedDay;
+        return day == null ? null : day.plusDays(1).atStartOfDay();
+    }
+
+    private ConcurrentNavigableMap<LocalDate, SensorArchiveSegment> segmentsOf(String type) {
+        return segments.computeIfAbsent(type, k -> new ConcurrentSkipListMap<>());
+    }
+
+    private void register(String type, LocalDate day, SensorArchiveSegment segment) {
+        segmentsOf(type).put(day, segment);
+        synchronized (this) {
+            if (lastArchivedDay == null || day.isAfter(lastArchivedDay)) {
+                lastArchivedDay = day;
+            }
+        }
+    }
+}
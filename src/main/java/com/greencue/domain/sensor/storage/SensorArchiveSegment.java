@@ -0,0 +1,331 @@
+package com.greencue.domain.sensor.storage;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * 하루치 단일 센서 타입 데이터를 담는 압축 컬럼형 세그먼트 파일
+ * <pre>
+ * [magic][version]
+ * [id 컬럼][시각 컬럼][장치 컬럼][값 컬럼][단위 컬럼]  - 각 컬럼은 varint 인코딩 후 Deflate 압축
+ * [footer: 행 수, 시각/값 min·max, 장치/단위 사전, 컬럼 위치]
+ * [footer 길이][magic]
+ * </pre>
+ * 읽기는 파일을 메모리 매핑하고, footer 의 min/max 로 구간 밖 세그먼트는 압축을 풀지 않음
+ */
+public class SensorArchiveSegment {
+
+    private static final int MAGIC = 0x47435347; // "GCSG"
+    private static final int VERSION = 1;
+    private static final int COLUMN_COUNT = 5;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final String type;
+    private final MappedByteBuffer mapped;
+    private final Footer footer;
+
+    private SensorArchiveSegment(String type, MappedByteBuffer mapped, Footer footer) {
+        this.type = type;
+        this.mapped = mapped;
+        this.footer = footer;
+    }
+
+    /**
+     * 세그먼트 파일 작성 - rows 는 모두 같은 타입이며 측정 시각 오름차순이어야 함
+     */
+    public static void write(Path path, List<SensorDataResponse> rows) throws IOException {
+        Dictionary devices = new Dictionary();
+        Dictionary units = new Dictionary();
+        VarintWriter ids = new VarintWriter();
+        VarintWriter times = new VarintWriter();
+        VarintWriter deviceColumn = new VarintWriter();
+        VarintWriter values = new VarintWriter();
+        VarintWriter unitColumn = new VarintWriter();
+
+        long previousId = 0;
+        long previousTime = 0;
+        int previousValueBits = 0;
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+        float minValue = Float.POSITIVE_INFINITY;
+        float maxValue = Float.NEGATIVE_INFINITY;
+
+        for (SensorDataResponse row : rows) {
+            long id = row.id();
+            long time = toMicros(row.createdAt());
+            int valueBits = Float.floatToRawIntBits(row.sensorValue());
+
+            ids.writeSigned(id - previousId);
+            times.writeSigned(time - previousTime);
+            deviceColumn.writeUnsigned(devices.indexOf(row.deviceId()));
+            values.writeUnsigned(Integer.toUnsignedLong(valueBits ^ previousValueBits));
+            unitColumn.writeUnsigned(units.indexOf(row.unit()));
+
+            previousId = id;
+            previousTime = time;
+            previousValueBits = valueBits;
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+            minValue = Math.min(minValue, row.sensorValue());
+            maxValue = Math.max(maxValue, row.sensorValue());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        long[] offsets = new long[COLUMN_COUNT];
+        int[] compressedLengths = new int[COLUMN_COUNT];
+        int[] rawLengths = new int[COLUMN_COUNT];
+        VarintWriter[] columns = {ids, times, deviceColumn, values, unitColumn};
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            byte[] compressed = deflate(columns[i].toByteArray());
+            offsets[i] = out.size();
+            compressedLengths[i] = compressed.length;
+            rawLengths[i] = columns[i].size();
+            out.write(compressed);
+        }
+
+        int footerStart = out.size();
+        out.writeInt(rows.size());
+        out.writeLong(minTime);
+        out.writeLong(maxTime);
+        out.writeFloat(minValue);
+        out.writeFloat(maxValue);
+        devices.writeTo(out);
+        units.writeTo(out);
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            out.writeLong(offsets[i]);
+            out.writeInt(compressedLengths[i]);
+            out.writeInt(rawLengths[i]);
+        }
+        out.writeInt(out.size() - footerStart);
+        out.writeInt(MAGIC);
+        out.flush();
+
+        Files.write(path, bytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+    }
+
+    /**
+     * 세그먼트 파일을 메모리 매핑하여 footer 만 읽어 둠
+     */
+    public static SensorArchiveSegment open(Path path, String type) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int size = mapped.capacity();
+            if (size < 16 || mapped.getInt(0) != MAGIC || mapped.getInt(size - 4) != MAGIC) {
+                throw new IOException("잘못된 센서 아카이브 세그먼트: " + path);
+            }
+            int footerLength = mapped.getInt(size - 8);
+            ByteBuffer footer = mapped.slice(size - 8 - footerLength, footerLength);
+            return new SensorArchiveSegment(type, mapped, Footer.read(footer));
+        }
+    }
+
+    public long rowCount() {
+        return footer.rowCount();
+    }
+
+    /**
+     * [startTime, endTime] 구간의 행 조회 (deviceId 가 null 이면 전체 장치)
+     */
+    public List<SensorDataResponse> read(String deviceId, LocalDateTime startTime, LocalDateTime endTime)
+            throws IOException {
+        long from = toMicros(startTime);
+        long to = toMicros(endTime);
+        if (footer.maxTime() < from || footer.minTime() > to) {
+            return List.of();
+        }
+        int deviceIndex = footer.devices().indexOf(deviceId);
+        if (deviceId != null && deviceIndex < 0) {
+            return List.of();
+        }
+
+        VarintReader ids = column(0);
+        VarintReader times = column(1);
+        VarintReader deviceColumn = column(2);
+        VarintReader values = column(3);
+        VarintReader unitColumn = column(4);
+
+        List<SensorDataResponse> result = new ArrayList<>();
+        long id = 0;
+        long time = 0;
+        int valueBits = 0;
+        for (int i = 0; i < footer.rowCount(); i++) {
+            id += ids.readSigned();
+            time += times.readSigned();
+            int device = (int) deviceColumn.readUnsigned();
+            valueBits ^= (int) values.readUnsigned();
+            int unit = (int) unitColumn.readUnsigned();
+
+            if (time < from || time > to || (deviceId != null && device != deviceIndex)) {
+                continue;
+            }
+            result.add(new SensorDataResponse(id, type, Float.intBitsToFloat(valueBits),
+                    footer.units().get(unit), footer.devices().get(device), fromMicros(time)));
+        }
+        return result;
+    }
+
+    private VarintReader column(int index) throws IOException {
+        ColumnLocation location = footer.columns().get(index);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(mapped.slice((int) location.offset(), location.compressedLength()));
+            byte[] raw = new byte[location.rawLength()];
+            int inflated = 0;
+            while (inflated < raw.length && !inflater.finished()) {
+                inflated += inflater.inflate(raw, inflated, raw.length - inflated);
+            }
+            return new VarintReader(raw);
+        } catch (DataFormatException e) {
+            throw new IOException("센서 아카이브 컬럼 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length / 2 + 16);
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(raw);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(BASE_TIME, dateTime);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return BASE_TIME.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private record ColumnLocation(long offset, int compressedLength, int rawLength) {
+    }
+
+    private record Footer(int rowCount, long minTime, long maxTime, float minValue, float maxValue,
+                          List<String> devices, List<String> units, List<ColumnLocation> columns) {
+
+        static Footer read(ByteBuffer buffer) {
+            int rowCount = buffer.getInt();
+            long minTime = buffer.getLong();
+            long maxTime = buffer.getLong();
+            float minValue = buffer.getFloat();
+            float maxValue = buffer.getFloat();
+            List<String> devices = Dictionary.read(buffer);
+            List<String> units = Dictionary.read(buffer);
+            List<ColumnLocation> columns = new ArrayList<>(COLUMN_COUNT);
+            for (int i = 0; i < COLUMN_COUNT; i++) {
+                columns.add(new ColumnLocation(buffer.getLong(), buffer.getInt(), buffer.getInt()));
+            }
+            return new Footer(rowCount, minTime, maxTime, minValue, maxValue, devices, units, columns);
+        }
+    }
+
+    // 문자열 사전 (null 허용)
+    private static class Dictionary {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int indexOf(String value) {
+            return indexes.computeIfAbsent(Objects.requireNonNullElse(value, "\0"), k -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                if (value == null) {
+                    out.writeInt(-1);
+                } else {
+                    byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(encoded.length);
+                    out.write(encoded);
+                }
+            }
+        }
+
+        static List<String> read(ByteBuffer buffer) {
+            int count = buffer.getInt();
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                if (length < 0) {
+                    values.add(null);
+                } else {
+                    byte[] encoded = new byte[length];
+                    buffer.get(encoded);
+                    values.add(new String(encoded, StandardCharsets.UTF_8));
+                }
+            }
+            return values;
+        }
+    }
+
+    private static class VarintWriter extends ByteArrayOutputStream {
+
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63)); // zigzag
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+    }
+
+    private static class VarintReader {
+        private final byte[] bytes;
+        private int position;
+
+        VarintReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readSigned() {
+            long raw = readUnsigned();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readUnsigned() {
+            long value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = bytes[position++];
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+    }
+}
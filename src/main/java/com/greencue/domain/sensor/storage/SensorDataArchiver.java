@@ -0,0 +1,95 @@
+package com.greencue.domain.sensor.storage;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.shared.config.SensorProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 보존 기간이 지난 sensor_data 행을 일자 단위로 아카이브 세그먼트로 옮기는 작업
+ * - 세그먼트 파일을 원자적으로 기록한 뒤에만 DB 행을 삭제하므로 중간에 중단되어도 데이터가 유실되지 않음
+ * - 중단 후 재실행 시 같은 일자를 다시 아카이브하며, 세그먼트는 ID 기준으로 병합됨
+ */
+@Component
+@ConditionalOnProperty(prefix = "sensor.archive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SensorDataArchiver {
+
+    private static final String SELECT_DAY_SQL =
+            "SELECT id, type, sensor_value, unit, device_id, created_at FROM sensor_data " +
+                    "WHERE created_at >= ? AND created_at < ?";
+    // 조회 이후 같은 일자에 늦게 들어온 행은 다음 실행에서 아카이브되도록 조회한 ID 까지만 삭제
+    private static final String DELETE_DAY_SQL =
+            "DELETE FROM sensor_data WHERE created_at >= ? AND created_at < ? AND id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SensorArchive sensorArchive;
+    private final SensorProperties sensorProperties;
+
+    // 아카이브 기준일 이전 일자를 오래된 순으로 이동
+    @Scheduled(cron = "${sensor.archive.cron:0 30 3 * * *}")
+    public void archiveExpired() {
+        SensorProperties.Archive config = sensorProperties.getArchive();
+        LocalDate cutoff = LocalDateTime.now().minus(config.getAfter()).toLocalDate();
+
+        try {
+            LocalDateTime oldest = jdbcTemplate.queryForObject(
+                    "SELECT MIN(created_at) FROM sensor_data", LocalDateTime.class);
+            if (oldest == null) {
+                return;
+            }
+
+            int processed = 0;
+            for (LocalDate day = oldest.toLocalDate();
+                 day.isBefore(cutoff) && processed < config.getMaxDaysPerRun();
+                 day = day.plusDays(1), processed++) {
+                archiveDay(day);
+            }
+        } catch (Exception e) {
+            log.error("센서 데이터 아카이브 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void archiveDay(LocalDate day) throws IOException {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+
+        Map<String, List<SensorDataResponse>> rowsByType = new TreeMap<>();
+        long[] maxId = {Long.MIN_VALUE};
+        jdbcTemplate.query(SELECT_DAY_SQL, (RowCallbackHandler) rs -> {
+            SensorDataResponse row = new SensorDataResponse(
+                    rs.getLong("id"),
+                    rs.getString("type"),
+                    rs.getFloat("sensor_value"),
+                    rs.getString("unit"),
+                    rs.getString("device_id"),
+                    rs.getObject("created_at", LocalDateTime.class));
+            rowsByType.computeIfAbsent(row.type(), k -> new ArrayList<>()).add(row);
+            maxId[0] = Math.max(maxId[0], row.id());
+        }, start, end);
+
+        if (rowsByType.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, List<SensorDataResponse>> entry : rowsByType.entrySet()) {
+            sensorArchive.write(entry.getKey(), day, entry.getValue());
+        }
+
+        int deleted = jdbcTemplate.update(DELETE_DAY_SQL, start, end, maxId[0]);
+        log.info("센서 데이터 아카이브: {} ({}개 타입, {}건 이동)", day, rowsByType.size(), deleted);
+    }
+}
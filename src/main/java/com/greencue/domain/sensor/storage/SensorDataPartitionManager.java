@@ -0,0 +1,265 @@
+package com.greencue.domain.sensor.storage;
+
+import com.greencue.shared.config.SensorProperties;
+import com.greencue.shared.config.SensorProperties.PartitionInterval;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * sensor_data 시간 파티션 관리자
+ * - 미래 파티션을 미리 생성하고, 보존 기간이 지난 파티션은 DELETE 대신 DETACH + DROP 으로 제거
+ * - 이미 있는 파티션과 겹치는 구간은 건너뛰고 빈 구간만 생성 - 주/월 단위 설정을 바꿔도 생성이 실패하지 않음
+ * - 미리 만든 구간 밖의 데이터는 DEFAULT 파티션(sensor_data_default)으로 들어감
+ *   관리 주기마다 보존 기간이 지난 DEFAULT 행은 삭제하고, 나머지는 해당 구간 파티션을 만들어 옮김
+ *   (DEFAULT 분리 → 파티션 생성 → 행 이동 → DEFAULT 재연결을 한 트랜잭션으로 수행)
+ * - sensor_data 가 created_at 기준 RANGE 파티션 테이블이어야 동작 (db/sensor_data_partitioning.sql 참고)
+ */
+@Component
+@ConditionalOnProperty(prefix = "sensor.partition", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SensorDataPartitionManager {
+
+    private static final String PARENT_TABLE = "sensor_data";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final String DEFAULT_PARTITION = PARENT_TABLE + "_default";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\('([0-9-]{10})[^)]*\\) TO \\('([0-9-]{10})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SensorProperties sensorProperties;
+
+    private volatile boolean partitioned;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                        "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?)",
+                Boolean.class, PARENT_TABLE);
+        partitioned = Boolean.TRUE.equals(exists);
+
+        if (!partitioned) {
+            log.warn("sensor_data 가 파티션 테이블이 아니므로 파티션 관리를 건너뜁니다.");
+            return;
+        }
+        maintainPartitions();
+    }
+
+    // 파티션 사전 생성 및 보존 기간 초과 파티션 제거
+    @Scheduled(cron = "${sensor.partition.maintenance-cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        if (!partitioned) {
+            return;
+        }
+        // 단계별 실패가 다른 단계를 막지 않도록 따로 처리
+        try {
+            drainDefaultPartition();
+        } catch (Exception e) {
+            log.error("sensor_data DEFAULT 파티션 정리 중 오류: {}", e.getMessage(), e);
+        }
+        try {
+            createUpcomingPartitions();
+        } catch (Exception e) {
+            log.error("sensor_data 파티션 생성 중 오류: {}", e.getMessage(), e);
+        }
+        try {
+            dropExpiredPartitions();
+        } catch (Exception e) {
+            log.error("sensor_data 파티션 삭제 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        SensorProperties.Partition config = sensorProperties.getPartition();
+        List<PartitionBound> existing = rangePartitions();
+        LocalDate start = periodStart(LocalDate.now(), config.getInterval());
+
+        for (int i = 0; i <= config.getPremake(); i++) {
+            LocalDate end = nextPeriod(start, config.getInterval());
+            for (LocalDate[] gap : uncovered(start, end, existing)) {
+                createPartition(gap[0], gap[1], existing);
+            }
+            start = end;
+        }
+    }
+
+    // DEFAULT 파티션에 쌓인 행 정리 - 보존 기간이 지난 행은 삭제, 나머지는 구간 파티션으로 이동
+    private void drainDefaultPartition() {
+        if (!hasDefaultPartition()) {
+            return;
+        }
+        SensorProperties.Partition config = sensorProperties.getPartition();
+        LocalDateTime cutoff = LocalDateTime.now().minus(config.getRetention());
+
+        int purged = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?",
+                Timestamp.valueOf(cutoff));
+        if (purged > 0) {
+            log.warn("보존 기간이 지난 sensor_data DEFAULT 파티션 행 삭제: {}건 (기준 {})", purged, cutoff);
+        }
+
+        List<LocalDate> days = jdbcTemplate.queryForList(
+                "SELECT DISTINCT created_at::date FROM " + DEFAULT_PARTITION, LocalDate.class);
+        if (days.isEmpty()) {
+            return;
+        }
+        log.warn("sensor_data DEFAULT 파티션에 미리 만든 구간 밖의 행이 있어 파티션으로 이동: {}일치", days.size());
+
+        List<PartitionBound> existing = rangePartitions();
+        Set<LocalDate> periods = new TreeSet<>();
+        days.forEach(day -> periods.add(periodStart(day, config.getInterval())));
+        for (LocalDate periodStart : periods) {
+            for (LocalDate[] gap : uncovered(periodStart, nextPeriod(periodStart, config.getInterval()), existing)) {
+                createPartition(gap[0], gap[1], existing);
+            }
+        }
+    }
+
+    // 구간 파티션 생성 - DEFAULT 파티션에 이 구간의 행이 있으면 옮겨서 생성
+    private void createPartition(LocalDate from, LocalDate to, List<PartitionBound> existing) {
+        String name = PARTITION_PREFIX + from.format(SUFFIX_FORMAT);
+        String create = String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                name, PARENT_TABLE, from, to);
+        try {
+            if (hasDefaultRows(from, to)) {
+                Integer moved = transactionTemplate.execute(status -> {
+                    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+                    jdbcTemplate.execute(create);
+                    int count = jdbcTemplate.update(
+                            "INSERT INTO " + PARENT_TABLE + " SELECT * FROM " + DEFAULT_PARTITION +
+                                    " WHERE created_at >= ? AND created_at < ?",
+                            Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+                    jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?",
+                            Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+                    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+                    return count;
+                });
+                log.info("sensor_data 파티션 생성 및 DEFAULT 행 이동: {} [{}, {}), {}건", name, from, to, moved);
+            } else {
+                jdbcTemplate.execute(create);
+                log.debug("sensor_data 파티션 확인: {} [{}, {})", name, from, to);
+            }
+            existing.add(new PartitionBound(name, from, to));
+        } catch (Exception e) {
+            // 다음 구간은 계속 진행
+            log.error("sensor_data 파티션 생성 실패: {} [{}, {}), {}", name, from, to, e.getMessage());
+        }
+    }
+
+    private boolean hasDefaultPartition() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ? AND c.relname = ?)",
+                Boolean.class, PARENT_TABLE, DEFAULT_PARTITION);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean hasDefaultRows(LocalDate from, LocalDate to) {
+        if (!hasDefaultPartition()) {
+            return false;
+        }
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?)",
+                Boolean.class, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private void dropExpiredPartitions() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(sensorProperties.getPartition().getRetention());
+
+        for (PartitionBound partition : rangePartitions()) {
+            if (!partition.name().startsWith(PARTITION_PREFIX)) {
+                continue; // 관리 대상이 아닌 파티션
+            }
+
+            LocalDate upper = partition.upper();
+            if (!upper.atStartOfDay().isAfter(cutoff)) {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition.name());
+                jdbcTemplate.execute("DROP TABLE " + partition.name());
+                log.info("보존 기간이 지난 sensor_data 파티션 삭제: {} (상한 {})", partition.name(), upper);
+            }
+        }
+    }
+
+    // 범위 파티션 목록 (DEFAULT 파티션 제외)
+    private List<PartitionBound> rangePartitions() {
+        List<PartitionBound> partitions = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ?",
+                (RowCallbackHandler) rs -> {
+                    Matcher matcher = RANGE_BOUND.matcher(rs.getString(2));
+                    if (matcher.find()) {
+                        partitions.add(new PartitionBound(rs.getString(1),
+                                LocalDate.parse(matcher.group(1)), LocalDate.parse(matcher.group(2))));
+                    }
+                },
+                PARENT_TABLE);
+        return partitions;
+    }
+
+    // [start, end) 중 기존 파티션이 덮지 않는 구간들
+    private static List<LocalDate[]> uncovered(LocalDate start, LocalDate end, List<PartitionBound> existing) {
+        List<PartitionBound> overlapping = existing.stream()
+                .filter(p -> p.lower().isBefore(end) && p.upper().isAfter(start))
+                .sorted(Comparator.comparing(PartitionBound::lower))
+                .toList();
+        List<LocalDate[]> gaps = new ArrayList<>();
+        LocalDate cursor = start;
+        for (PartitionBound partition : overlapping) {
+            if (partition.lower().isAfter(cursor)) {
+                gaps.add(new LocalDate[]{cursor, partition.lower()});
+            }
+            if (partition.upper().isAfter(cursor)) {
+                cursor = partition.upper();
+            }
+        }
+        if (cursor.isBefore(end)) {
+            gaps.add(new LocalDate[]{cursor, end});
+        }
+        return gaps;
+    }
+
+    private static LocalDate periodStart(LocalDate date, PartitionInterval interval) {
+        return switch (interval) {
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate nextPeriod(LocalDate start, PartitionInterval interval) {
+        return switch (interval) {
+            case WEEKLY -> start.plusWeeks(1);
+            case MONTHLY -> start.plusMonths(1);
+        };
+    }
+
+    private record PartitionBound(String name, LocalDate lower, LocalDate upper) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.greencue.domain.sensor.storage;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.model.SensorData;
+import com.greencue.shared.config.SensorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 센서 이력을 보관하는 인메모리 핫 티어
+ * - 장치/타입별 시리즈를 Gorilla 압축 off-heap 블록에 저장
+ * - 메모리 예산 초과 시 가장 오래된 블록부터 제거하고, 제거된 구간은 DB 조회로 대체
+ */
+@Component
+@ConditionalOnProperty(prefix = "sensor.hot-tier", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SensorHotTier {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final Comparator<SensorDataResponse> NEWEST_FIRST =
+            Comparator.comparing(SensorDataResponse::createdAt).reversed();
+
+    private final SensorProperties.HotTier config;
+    private final Map<SeriesKey, Series> seriesMap = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> evictedUpTo = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final long startedAt = System.currentTimeMillis();
+
+    public SensorHotTier(SensorProperties sensorProperties) {
+        this.config = sensorProperties.getHotTier();
+    }
+
+    /**
+     * 저장된 센서 데이터를 핫 티어에 추가
+     */
+    public void append(SensorData data) {
+        if (data.getId() == null || data.getCreatedAt() == null || data.getSensorValue() == null) {
+            return;
+        }
+
+        // 이미 제거된 구간에 늦게 도착한 샘플은 어차피 DB 에서 조회되므로 보관하지 않음
+        long timestamp = toEpochMillis(data.getCreatedAt());
+        if (timestamp < coverageStart(data.getType())) {
+            return;
+        }
+
+        Series series = seriesMap.computeIfAbsent(
+                new SeriesKey(data.getType(), data.getDeviceId()), Series::new);
+
+        if (series.tryAppend(data.getId(), timestamp, data.getSensorValue(), data.getUnit())) {
+            return;
+        }
+
+        // 블록 할당은 시리즈 락 밖에서 수행 (할당 중 다른 시리즈의 블록을 제거할 수 있음)
+        ByteBuffer buffer = allocate();
+        if (!series.appendToNewBlock(buffer, data.getId(), timestamp, data.getSensorValue(), data.getUnit())) {
+            freeBuffers.offer(buffer);
+        }
+    }
+
+    /**
+     * 타입별 최근 데이터 - 핫 티어만으로 limit 개를 채울 수 없으면 empty
+     * - limit 번째 샘플이 보관 범위 이전이면, 다른 장치의 제거된 더 최신 샘플이 빠졌을 수 있으므로 empty
+     */
+    public Optional<List<SensorDataResponse>> recent(String type, int limit) {
+        List<SensorDataResponse> result = new ArrayList<>();
+        for (Series series : seriesOf(type)) {
+            series.collectRecent(limit, result);
+        }
+        if (result.size() < limit) {
+            return Optional.empty();
+        }
+
+        result.sort(NEWEST_FIRST);
+        if (toEpochMillis(result.get(limit - 1).createdAt()) < coverageStart(type)) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(result.subList(0, limit)));
+    }
+
+    /**
+     * 타입별 기간 데이터 - 요청 구간이 핫 티어 보관 범위를 벗어나면 empty
+     */
+    public Optional<List<SensorDataResponse>> range(String type, LocalDateTime startTime, LocalDateTime endTime) {
+        long from = toEpochMillis(startTime);
+        long to = toEpochMillis(endTime);
+        if (from < coverageStart(type)) {
+            return Optional.empty();
+        }
+
+        List<SensorDataResponse> result = new ArrayList<>();
+        for (Series series : seriesOf(type)) {
+            series.collectRange(from, to, result);
+        }
+        result.sort(NEWEST_FIRST);
+        return Optional.of(result);
+    }
+
+    // 보존 기간이 지난 블록 제거
+    @Scheduled(fixedDelayString = "${sensor.hot-tier.eviction-interval:60000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - config.getRetention().toMillis();
+        int evicted = 0;
+
+        for (Series series : seriesMap.values()) {
+            GorillaBlock block;
+            while ((block = series.pollHeadIfOlderThan(cutoff)) != null) {
+                release(series.key.type(), block);
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            log.debug("핫 티어 만료 블록 제거: {}개, 사용 중 {} bytes", evicted, allocatedBytes.get());
+        }
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    private List<Series> seriesOf(String type) {
+        return seriesMap.values().stream()
+                .filter(series -> series.key.type().equals(type))
+                .toList();
+    }
+
+    private long coverageStart(String type) {
+        AtomicLong watermark = evictedUpTo.get(type);
+        long evicted = watermark != null ? watermark.get() + 1 : Long.MIN_VALUE;
+        return Math.max(startedAt, evicted);
+    }
+
+    private ByteBuffer allocate() {
+        ByteBuffer reused = freeBuffers.poll();
+        if (reused != null) {
+            return reused;
+        }
+
+        int blockBytes = config.getBlockBytes();
+        while (allocatedBytes.get() + blockBytes > config.getMaxBytes()) {
+            if (!evictOldest()) {
+                break; // 제거할 블록이 없으면 예산을 넘더라도 할당
+            }
+            reused = freeBuffers.poll();
+            if (reused != null) {
+                return reused;
+            }
+        }
+
+        allocatedBytes.addAndGet(blockBytes);
+        return ByteBuffer.allocateDirect(blockBytes);
+    }
+
+    // 메모리 예산 초과 시 전체 시리즈 중 가장 오래된 블록 제거
+    private boolean evictOldest() {
+        Series oldest = null;
+        long oldestTimestamp = Long.MAX_VALUE;
+        for (Series series : seriesMap.values()) {
+            long head = series.headMaxTimestamp();
+            if (head < oldestTimestamp) {
+                oldestTimestamp = head;
+                oldest = series;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+
+        GorillaBlock block = oldest.pollHeadIfOlderThan(oldestTimestamp + 1);
+        if (block != null) {
+            release(oldest.key.type(), block);
+        }
+        return true;
+    }
+
+    private void release(String type, GorillaBlock block) {
+        evictedUpTo.computeIfAbsent(type, k -> new AtomicLong(Long.MIN_VALUE))
+                .accumulateAndGet(block.maxTimestamp(), Math::max);
+
+        // 재사용 가능한 만큼만 풀에 보관하고 나머지는 GC 에 맡김
+        if (allocatedBytes.get() <= config.getMaxBytes()) {
+            freeBuffers.offer(block.buffer());
+        } else {
+            allocatedBytes.addAndGet(-block.buffer().capacity());
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+
+    private record SeriesKey(String type, String deviceId) {
+    }
+
+    /**
+     * 장치/타입별 블록 목록 - 모든 접근은 시리즈 단위로 동기화
+     */
+    private static class Series {
+        private final SeriesKey key;
+        private final ArrayDeque<GorillaBlock> blocks = new ArrayDeque<>();
+        private String unit;
+
+        Series(SeriesKey key) {
+            this.key = key;
+        }
+
+        synchronized boolean tryAppend(long id, long timestamp, float value, String unit) {
+            GorillaBlock current = blocks.peekLast();
+            if (current == null || !current.append(id, timestamp, value)) {
+                return false;
+            }
+            this.unit = unit;
+            return true;
+        }
+
+        // 새 블록에 추가 - 그 사이 다른 스레드가 블록을 만들었다면 그쪽에 추가하고 false
+        synchronized boolean appendToNewBlock(ByteBuffer buffer, long id, long timestamp, float value, String unit) {
+            this.unit = unit;
+            GorillaBlock current = blocks.peekLast();
+            if (current != null && current.append(id, timestamp, value)) {
+                return false;
+            }
+
+            GorillaBlock block = new GorillaBlock(buffer);
+            block.append(id, timestamp, value);
+            blocks.addLast(block);
+            return true;
+        }
+
+        synchronized GorillaBlock pollHeadIfOlderThan(long cutoff) {
+            GorillaBlock head = blocks.peekFirst();
+            return head != null && head.maxTimestamp() < cutoff ? blocks.pollFirst() : null;
+        }
+
+        synchronized long headMaxTimestamp() {
+            GorillaBlock head = blocks.peekFirst();
+            return head != null ? head.maxTimestamp() : Long.MAX_VALUE;
+        }
+
+        // 블록은 수신 순서이므로 늦게 도착한 샘플이 섞여 있을 수 있음
+        // - 남은 블록의 최대 시각이 지금까지 모은 limit 번째 최신 샘플보다 이전이면 중단
+        synchronized void collectRecent(int limit, List<SensorDataResponse> out) {
+            List<HotSample> collected = new ArrayList<>();
+            Iterator<GorillaBlock> newestFirst = blocks.descendingIterator();
+            while (newestFirst.hasNext()) {
+                GorillaBlock block = newestFirst.next();
+                if (collected.size() >= limit && block.maxTimestamp() < collected.get(limit - 1).timestamp()) {
+                    break;
+                }
+                collected.addAll(block.decode());
+                collected.sort(Comparator.comparingLong(HotSample::timestamp).reversed());
+            }
+            for (int i = 0; i < Math.min(limit, collected.size()); i++) {
+                out.add(toResponse(collected.get(i)));
+            }
+        }
+
+        synchronized void collectRange(long from, long to, List<SensorDataResponse> out) {
+            for (GorillaBlock block : blocks) {
+                if (block.maxTimestamp() < from || block.minTimestamp() > to) {
+                    continue;
+                }
+                for (HotSample sample : block.decode()) {
+                    if (sample.timestamp() >= from && sample.timestamp() <= to) {
+                        out.add(toResponse(sample));
+                    }
+                }
+            }
+        }
+
+        private SensorDataResponse toResponse(HotSample sample) {
+            return new SensorDataResponse(
+                    sample.id(),
+                    key.type(),
+                    sample.value(),
+                    unit,
+                    key.deviceId(),
+                    toLocalDateTime(sample.timestamp())
+            );
+        }
+    }
+}
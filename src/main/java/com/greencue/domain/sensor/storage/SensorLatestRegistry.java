@@ -0,0 +1,132 @@
+package com.greencue.domain.sensor.storage;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 타입별 / 장치별 최신 센서 값 레지스트리
+ * - 수집 시 CAS 로 갱신하며, 더 최신 샘플만 반영되므로 순서가 뒤바뀐 갱신에도 안전
+ * - 조회는 I/O 없이 메모리에서만 처리
+ * - 전체/장치별 버전은 최신 값이 바뀔 때마다 증가 - 직렬화 결과 캐시와 ETag 의 기준
+ * - 타입별 리비전은 최신 값이 아니더라도 해당 타입 샘플이 반영될 때마다 증가 (최근 이력 조회의 기준)
+ */
+@Component
+public class SensorLatestRegistry {
+
+    private static final Comparator<SensorDataResponse> RECENCY =
+            Comparator.comparing(SensorDataResponse::createdAt)
+                    .thenComparing(SensorDataResponse::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Map<String, AtomicReference<SensorDataResponse>> byType = new ConcurrentHashMap<>();
+    private final Map<DeviceKey, AtomicReference<SensorDataResponse>> byDevice = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> deviceVersions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> typeRevisions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 샘플 반영 - 타입 또는 장치의 최신 값이 바뀌었으면 true
+     */
+    public boolean update(SensorDataResponse sample) {
+        if (sample.type() == null || sample.createdAt() == null) {
+            return false;
+        }
+        typeRevisions.computeIfAbsent(sample.type(), k -> new AtomicLong()).incrementAndGet();
+        boolean typeChanged = advance(slot(byType, sample.type()), sample);
+        boolean deviceChanged = advance(slot(byDevice, new DeviceKey(sample.deviceId(), sample.type())), sample);
+        if (deviceChanged && sample.deviceId() != null) {
+            deviceVersions.computeIfAbsent(sample.deviceId(), k -> new AtomicLong()).incrementAndGet();
+        }
+        if (typeChanged || deviceChanged) {
+            version.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 타입별 최신 값 목록의 버전 - 어떤 최신 값이든 바뀌면 증가
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 장치의 최신 값 목록 버전 (이 노드가 모르는 장치는 0)
+     */
+    public long deviceVersion(String deviceId) {
+        AtomicLong deviceVersion = deviceVersions.get(deviceId);
+        return deviceVersion != null ? deviceVersion.get() : 0;
+    }
+
+    /**
+     * 타입의 샘플 반영 횟수 - 과거 시각 샘플(백필)도 포함 (모르는 타입은 0)
+     */
+    public long typeRevision(String type) {
+        AtomicLong revision = typeRevisions.get(type);
+        return revision != null ? revision.get() : 0;
+    }
+
+    public List<SensorDataResponse> latestByType() {
+        return snapshot(byType);
+    }
+
+    public Optional<SensorDataResponse> latest(String type) {
+        AtomicReference<SensorDataResponse> ref = byType.get(type);
+        return ref != null ? Optional.ofNullable(ref.get()) : Optional.empty();
+    }
+
+    public List<SensorDataResponse> latestByDevice(String deviceId) {
+        return byDevice.entrySet().stream()
+                .filter(entry -> Objects.equals(entry.getKey().deviceId(), deviceId))
+                .map(entry -> entry.getValue().get())
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(SensorDataResponse::type))
+                .toList();
+    }
+
+    /**
+     * 장치·타입별 최신 값 전체 (정렬 없음, 갱신 중에도 순회 가능)
+     */
+    public List<SensorDataResponse> latestAll() {
+        return byDevice.values().stream()
+                .map(AtomicReference::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static <K> AtomicReference<SensorDataResponse> slot(Map<K, AtomicReference<SensorDataResponse>> map, K key) {
+        AtomicReference<SensorDataResponse> ref = map.get(key);
+        return ref != null ? ref : map.computeIfAbsent(key, k -> new AtomicReference<>());
+    }
+
+    private static boolean advance(AtomicReference<SensorDataResponse> ref, SensorDataResponse sample) {
+        SensorDataResponse current;
+        do {
+            current = ref.get();
+            if (current != null && RECENCY.compare(sample, current) <= 0) {
+                return false;
+            }
+        } while (!ref.compareAndSet(current, sample));
+        return true;
+    }
+
+    private static List<SensorDataResponse> snapshot(Map<?, AtomicReference<SensorDataResponse>> map) {
+        return map.values().stream()
+                .map(AtomicReference::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(SensorDataResponse::type))
+                .toList();
+    }
+
+    private record DeviceKey(String deviceId, String type) {
+    }
+}
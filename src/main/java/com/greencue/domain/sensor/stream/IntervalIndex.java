@@ -0,0 +1,87 @@
+package com.greencue.domain.sensor.stream;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 값 구간 검색용 정적 구간 트리
+ * - 구간을 시작값 순으로 정렬한 배열을 암묵적 균형 이진 트리로 보고, 노드마다 하위 트리의 최대 끝값을 저장
+ * - 값 하나를 포함하는 구간 검색은 O(log n + 결과 수) - 구간마다 비교하지 않음
+ * - 생성 후 변경 불가 - 구간이 바뀌면 새로 생성 (구독 변경은 드물고 검색은 잦음)
+ * - 한쪽이 열린 구간은 -Infinity / +Infinity 로 표현
+ */
+final class IntervalIndex<T> {
+
+    private static final IntervalIndex<?> EMPTY = new IntervalIndex<>(List.of());
+
+    private final double[] lo;
+    private final double[] hi;
+    private final double[] maxHi;
+    private final Object[] items;
+
+    private IntervalIndex(List<Interval<T>> intervals) {
+        List<Interval<T>> sorted = intervals.stream()
+                .sorted(Comparator.comparingDouble(Interval::lo))
+                .toList();
+        int size = sorted.size();
+        this.lo = new double[size];
+        this.hi = new double[size];
+        this.maxHi = new double[size];
+        this.items = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Interval<T> interval = sorted.get(i);
+            lo[i] = interval.lo();
+            hi[i] = interval.hi();
+            items[i] = interval.item();
+        }
+        computeMaxHi(0, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> IntervalIndex<T> of(List<Interval<T>> intervals) {
+        return intervals.isEmpty() ? (IntervalIndex<T>) EMPTY : new IntervalIndex<>(intervals);
+    }
+
+    int size() {
+        return items.length;
+    }
+
+    /**
+     * value 를 포함하는 (lo <= value <= hi) 모든 구간의 항목 전달
+     */
+    void stab(double value, Consumer<T> consumer) {
+        stab(0, items.length, value, consumer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stab(int from, int to, double value, Consumer<T> consumer) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (maxHi[mid] < value) {
+                return; // 하위 트리의 모든 구간이 value 이전에 끝남
+            }
+            stab(from, mid, value, consumer);
+            if (lo[mid] > value) {
+                return; // 오른쪽 하위 트리는 모두 value 이후에 시작
+            }
+            if (hi[mid] >= value) {
+                consumer.accept((T) items[mid]);
+            }
+            from = mid + 1;
+        }
+    }
+
+    private double computeMaxHi(int from, int to) {
+        if (from >= to) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int mid = (from + to) >>> 1;
+        double max = Math.max(hi[mid], Math.max(computeMaxHi(from, mid), computeMaxHi(mid + 1, to)));
+        maxHi[mid] = max;
+        return max;
+    }
+
+    record Interval<T>(double lo, double hi, T item) {
+    }
+}
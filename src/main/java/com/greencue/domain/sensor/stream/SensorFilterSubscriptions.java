@@ -0,0 +1,222 @@
+package com.greencue.domain.sensor.stream;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 조건부 실시간 센서 구독
+ * - /user/queue/sensor-data/filter/{이름} 구독 시 STOMP 헤더로 조건 지정
+ *   (type: 센서 타입, device: 장치 ID 목록(쉼표 구분), min / max: 값 범위 - 모두 생략 가능)
+ * - 조건을 만족하는 값만 해당 구독 세션에 전송 - 조건마다 이름을 달리해야 서로의 메시지가 섞이지 않음
+ * - 구독을 (타입, 장치) 버킷으로 나누고 버킷마다 값 범위 구간 트리를 두어, 값 하나당 최대 4개 버킷만 검색
+ * - 구독 변경 시 바뀐 버킷만 다시 만들고 검색용 맵은 통째로 교체 (검색은 잠금 없음)
+ */
+@Component
+@Slf4j
+public class SensorFilterSubscriptions {
+
+    public static final String DESTINATION_PREFIX = "/user/queue/sensor-data/filter";
+    private static final String USER_PREFIX = "/user";
+    private static final String HEADER_TYPE = "type";
+    private static final String HEADER_DEVICE = "device";
+    private static final String HEADER_MIN = "min";
+    private static final String HEADER_MAX = "max";
+
+    // 아래 두 맵은 this 잠금으로 보호
+    private final Map<SubscriptionKey, Registration> registrations = new HashMap<>();
+    private final Map<BucketKey, List<IntervalIndex.Interval<String>>> buckets = new HashMap<>();
+    private volatile Map<BucketKey, IntervalIndex<String>> index = Map.of();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !isFilterDestination(destination)) {
+            return;
+        }
+        try {
+            Registration registration = toRegistration(accessor, destination);
+            register(new SubscriptionKey(accessor.getSessionId(), accessor.getSubscriptionId()), registration);
+            log.debug("조건부 센서 구독: 세션={}, {}", accessor.getSessionId(), registration);
+        } catch (IllegalArgumentException e) {
+            log.warn("조건부 센서 구독 무시 - 잘못된 조건: {} ({})", destination, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unregister(key -> key.equals(new SubscriptionKey(accessor.getSessionId(), accessor.getSubscriptionId())));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        unregister(key -> key.sessionId().equals(sessionId));
+    }
+
+    /**
+     * 값을 받을 구독 목적지 전달 (같은 목적지는 한 번만)
+     */
+    public void match(SensorDataResponse sample, Consumer<String> destinationConsumer) {
+        Map<BucketKey, IntervalIndex<String>> current = index;
+        if (current.isEmpty() || sample.sensorValue() == null) {
+            return;
+        }
+        double value = sample.sensorValue();
+        Set<String> destinations = new LinkedHashSet<>();
+        stab(current, new BucketKey(sample.type(), null), value, destinations);
+        stab(current, new BucketKey(null, null), value, destinations);
+        if (sample.deviceId() != null) {
+            stab(current, new BucketKey(sample.type(), sample.deviceId()), value, destinations);
+            stab(current, new BucketKey(null, sample.deviceId()), value, destinations);
+        }
+        destinations.forEach(destinationConsumer);
+    }
+
+    public synchronized int size() {
+        return registrations.size();
+    }
+
+    private static void stab(Map<BucketKey, IntervalIndex<String>> current, BucketKey key, double value, Set<String> out) {
+        IntervalIndex<String> bucket = current.get(key);
+        if (bucket != null) {
+            bucket.stab(value, out::add);
+        }
+    }
+
+    private synchronized void register(SubscriptionKey key, Registration registration) {
+        Registration previous = registrations.put(key, registration);
+        Set<BucketKey> touched = new LinkedHashSet<>();
+        if (previous != null) {
+            removeFromBuckets(previous, touched);
+        }
+        IntervalIndex.Interval<String> interval = new IntervalIndex.Interval<>(
+                registration.min(), registration.max(), registration.target());
+        for (BucketKey bucketKey : registration.bucketKeys()) {
+            buckets.computeIfAbsent(bucketKey, k -> new ArrayList<>()).add(interval);
+            touched.add(bucketKey);
+        }
+        rebuild(touched);
+    }
+
+    private synchronized void unregister(Predicate<SubscriptionKey> filter) {
+        Set<BucketKey> touched = new LinkedHashSet<>();
+        registrations.entrySet().removeIf(entry -> {
+            if (!filter.test(entry.getKey())) {
+                return false;
+            }
+            removeFromBuckets(entry.getValue(), touched);
+            return true;
+        });
+        if (!touched.isEmpty()) {
+            rebuild(touched);
+        }
+    }
+
+    private void removeFromBuckets(Registration registration, Set<BucketKey> touched) {
+        for (BucketKey bucketKey : registration.bucketKeys()) {
+            List<IntervalIndex.Interval<String>> intervals = buckets.get(bucketKey);
+            if (intervals == null) {
+                continue;
+            }
+            for (int i = 0; i < intervals.size(); i++) {
+                IntervalIndex.Interval<String> interval = intervals.get(i);
+                if (interval.item().equals(registration.target())
+                        && interval.lo() == registration.min() && interval.hi() == registration.max()) {
+                    intervals.remove(i);
+                    break;
+                }
+            }
+            if (intervals.isEmpty()) {
+                buckets.remove(bucketKey);
+            }
+            touched.add(bucketKey);
+        }
+    }
+
+    private void rebuild(Set<BucketKey> touched) {
+        Map<BucketKey, IntervalIndex<String>> next = new HashMap<>(index);
+        for (BucketKey bucketKey : touched) {
+            List<IntervalIndex.Interval<String>> intervals = buckets.get(bucketKey);
+            if (intervals == null) {
+                next.remove(bucketKey);
+            } else {
+                next.put(bucketKey, IntervalIndex.of(List.copyOf(intervals)));
+            }
+        }
+        index = Map.copyOf(next);
+    }
+
+    private static boolean isFilterDestination(String destination) {
+        return destination.equals(DESTINATION_PREFIX) || destination.startsWith(DESTINATION_PREFIX + "/");
+    }
+
+    // 세션 전용 목적지: /user/queue/x 구독은 /queue/x-user{세션 ID} 로 전달됨
+    private static Registration toRegistration(StompHeaderAccessor accessor, String destination) {
+        String type = blankToNull(accessor.getFirstNativeHeader(HEADER_TYPE));
+        String devices = blankToNull(accessor.getFirstNativeHeader(HEADER_DEVICE));
+        double min = parseBound(accessor.getFirstNativeHeader(HEADER_MIN), Double.NEGATIVE_INFINITY);
+        double max = parseBound(accessor.getFirstNativeHeader(HEADER_MAX), Double.POSITIVE_INFINITY);
+        if (min > max) {
+            throw new IllegalArgumentException("min > max");
+        }
+
+        List<BucketKey> bucketKeys = new ArrayList<>();
+        if (devices == null) {
+            bucketKeys.add(new BucketKey(type, null));
+        } else {
+            Arrays.stream(devices.split(","))
+                    .map(String::trim)
+                    .filter(deviceId -> !deviceId.isEmpty())
+                    .distinct()
+                    .forEach(deviceId -> bucketKeys.add(new BucketKey(type, deviceId)));
+        }
+        String target = destination.substring(USER_PREFIX.length()) + "-user" + accessor.getSessionId();
+        return new Registration(List.copyOf(bucketKeys), min, max, target);
+    }
+
+    private static double parseBound(String raw, double unbounded) {
+        if (raw == null || raw.isBlank()) {
+            return unbounded;
+        }
+        try {
+            double value = Double.parseDouble(raw.trim());
+            if (Double.isNaN(value)) {
+                throw new IllegalArgumentException("NaN");
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닌 범위 값: " + raw);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private record SubscriptionKey(String sessionId, String subscriptionId) {
+    }
+
+    private record BucketKey(String type, String deviceId) {
+    }
+
+    private record Registration(List<BucketKey> bucketKeys, double min, double max, String target) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.greencue.domain.sensor.stream;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.shared.config.SensorProperties;
+import com.greencue.shared.infrastructure.sse.SseEventHub;
+import com.greencue.shared.infrastructure.web.SerializedResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실시간 센서 값 WebSocket 전송 (conflation)
+ * - 타입·장치별로 마지막 값만 모아두었다가 주기마다 한 번에 전송 (주기 안의 중간 값은 버림)
+ * - /topic/sensor-data/{type}: 해당 타입의 장치별 최신 값 목록
+ * - /topic/sensor-data/device/{deviceId}: 해당 장치의 타입별 최신 값 목록
+ * - /topic/sensor-data: 기존 클라이언트용 단건 메시지 (sensor.stream.legacy-topic=false 로 끌 수 있음)
+ * - 장치 수가 늘어도 구독자당 트래픽은 구독한 키 수 x 전송 주기로 제한됨
+ * - 조건부 구독(SensorFilterSubscriptions)에는 조건을 만족하는 값만 세션별로 전송
+ * - SSE 연결에는 같은 값을 sensor 이벤트로 전달 (재연결 재전송 대상)
+ * - 값마다 JSON 은 한 번만 만들고, 목록 프레임은 그 바이트를 이어 붙여 만듦 (목적지 수만큼 다시 직렬화하지 않음)
+ */
+@Component
+@Slf4j
+public class SensorLiveBroadcaster {
+
+    public static final String LEGACY_DESTINATION = "/topic/sensor-data";
+    public static final String TYPE_DESTINATION_PREFIX = "/topic/sensor-data/";
+    public static final String DEVICE_DESTINATION_PREFIX = "/topic/sensor-data/device/";
+
+    private static final Comparator<EncodedSample> BY_DEVICE = Comparator.comparing(
+            encoded -> encoded.sample().deviceId(), Comparator.nullsFirst(Comparator.naturalOrder()));
+    private static final Comparator<EncodedSample> BY_TYPE = Comparator.comparing(encoded -> encoded.sample().type());
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SerializedResponseCache serializer;
+    private final SseEventHub sseEventHub;
+    private final SensorFilterSubscriptions filterSubscriptions;
+    private final SensorProperties.Stream config;
+    private final Map<StreamKey, SensorDataResponse> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SensorLiveBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                 SerializedResponseCache serializer,
+                                 SseEventHub sseEventHub,
+                                 SensorFilterSubscriptions filterSubscriptions,
+                                 SensorProperties sensorProperties) {
+        this.messagingTemplate = messagingTemplate;
+        this.serializer = serializer;
+        this.sseEventHub = sseEventHub;
+        this.filterSubscriptions = filterSubscriptions;
+        this.config = sensorProperties.getStream();
+    }
+
+    /**
+     * 전송 예약 - 같은 타입·장치의 이전 값이 아직 전송되지 않았으면 덮어씀
+     */
+    public void submit(SensorDataResponse sample) {
+        pending.merge(new StreamKey(sample.type(), sample.deviceId()), sample, SensorLiveBroadcaster::newer);
+    }
+
+    @Scheduled(fixedDelayString = "${sensor.stream.interval:500}")
+    public void flush() {
+        if (pending.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<String, List<EncodedSample>> byType = new LinkedHashMap<>();
+            Map<String, List<EncodedSample>> byDevice = new LinkedHashMap<>();
+            int drained = 0;
+            for (StreamKey key : pending.keySet()) {
+                SensorDataResponse sample = pending.remove(key);
+                if (sample == null) {
+                    continue;
+                }
+                drained++;
+                EncodedSample encoded = new EncodedSample(sample, serializer.serialize(sample));
+                byType.computeIfAbsent(sample.type(), k -> new ArrayList<>()).add(encoded);
+                if (sample.deviceId() != null) {
+                    byDevice.computeIfAbsent(sample.deviceId(), k -> new ArrayList<>()).add(encoded);
+                }
+                if (config.isLegacyTopic()) {
+                    send(LEGACY_DESTINATION, encoded.json());
+                }
+                sseEventHub.publishJson("sensor", encoded.json());
+                filterSubscriptions.match(sample, destination -> send(destination, encoded.json()));
+            }
+
+            byType.forEach((type, samples) -> {
+                samples.sort(BY_DEVICE);
+                send(TYPE_DESTINATION_PREFIX + type, toJsonArray(samples));
+            });
+            byDevice.forEach((deviceId, samples) -> {
+                samples.sort(BY_TYPE);
+                send(DEVICE_DESTINATION_PREFIX + deviceId, toJsonArray(samples));
+            });
+            log.debug("실시간 센서 값 전송: {}건 ({}개 타입, {}개 장치)", drained, byType.size(), byDevice.size());
+        } catch (Exception e) {
+            log.warn("실시간 센서 값 전송 실패: {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 이미 직렬화된 JSON 을 변환기를 거치지 않고 그대로 전송
+    private void send(String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        MessageHeaders headers = accessor.getMessageHeaders();
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, headers));
+    }
+
+    private static byte[] toJsonArray(List<EncodedSample> samples) {
+        int length = samples.size() + 1;
+        for (EncodedSample encoded : samples) {
+            length += encoded.json().length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        out.write('[');
+        for (int i = 0; i < samples.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(samples.get(i).json());
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private static SensorDataResponse newer(SensorDataResponse current, SensorDataResponse candidate) {
+        int compared = candidate.createdAt().compareTo(current.createdAt());
+        if (compared == 0) {
+            compared = Long.compare(candidate.id(), current.id());
+        }
+        return compared >= 0 ? candidate : current;
+    }
+
+    private record StreamKey(String type, String deviceId) {
+    }
+
+    private record EncodedSample(SensorDataResponse sample, byte[] json) {
+    }
+}
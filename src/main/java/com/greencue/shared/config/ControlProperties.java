@@ -0,0 +1,44 @@
+package com.greencue.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "control")
+public class ControlProperties {
+    private Outbox outbox = new Outbox();
+    private Ack ack = new Ack();
+    private Schedule schedule = new Schedule();
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        private int batchSize = 100;
+        private Duration pollInterval = Duration.ofSeconds(1); // 새 명령 알림이 없을 때의 폴링 주기
+        private Duration leaseTimeout = Duration.ofSeconds(30); // 발행 중인 명령을 다른 릴레이가 다시 가져가기까지의 시간
+        private int maxInFlight = 1000; // 발행 결과를 기다리는 명령 수 상한 (장치마다 최대 하나)
+        private int maxAttempts = 10;
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofMinutes(5);
+        private Duration maxAge = Duration.ofMinutes(10); // 접수 후 이 시간 안에 발행하지 못한 명령은 FAILED 처리
+    }
+
+    @Getter
+    @Setter
+    public static class Ack {
+        private Duration timeout = Duration.ofSeconds(10); // 발행 후 장치 확인을 기다리는 시간
+        private long sweepInterval = 5000; // 응답 시간 초과 확인 주기 (ms)
+    }
+
+    @Getter
+    @Setter
+    public static class Schedule {
+        private boolean enabled = true;
+        private Duration tick = Duration.ofSeconds(1); // 타이밍 휠 tick - 예약 실행 시각의 정밀도
+    }
+}
@@ -0,0 +1,33 @@
+package com.greencue.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클라이언트별 요청 제한 설정
+ * - 규칙마다 (메서드, 경로 패턴) 과 토큰 버킷 크기/회복 속도를 지정하며, 요청은 처음 일치한 규칙 하나만 적용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int maxClients = 10000; // 추적할 (클라이언트, 규칙) 버킷 수 상한 - 넘으면 새 클라이언트는 규칙별 공용 버킷 사용
+    private long evictionInterval = 60000; // 가득 찬(유휴) 버킷 정리 주기 (ms)
+    private boolean trustForwardedFor; // 신뢰하는 프록시 뒤에서만 true - X-Forwarded-For 의 마지막(프록시가 붙인) 주소를 클라이언트로 사용
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String method; // 없으면 모든 메서드
+        private List<String> paths = new ArrayList<>(); // Ant 패턴
+        private int capacity = 20; // 연속으로 허용할 최대 요청 수
+        private double refillPerSecond = 5; // 초당 회복되는 요청 수
+    }
+}
@@ -0,0 +1,104 @@
+package com.greencue.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sensor")
+public class SensorProperties {
+    private Partition partition = new Partition();
+    private HotTier hotTier = new HotTier();
+    private Redis redis = new Redis();
+    private BulkWriter bulkWriter = new BulkWriter();
+    private Aggregation aggregation = new Aggregation();
+    private Archive archive = new Archive();
+    private Ingest ingest = new Ingest();
+    private Stream stream = new Stream();
+
+    // 최신 값 레지스트리 초기화 시 탐색할 최근 구간 (파티션 프루닝용)
+    private Duration latestLookback = Duration.ofDays(7);
+
+    @Getter
+    @Setter
+    public static class Partition {
+        private boolean enabled;
+        private PartitionInterval interval = PartitionInterval.MONTHLY;
+        private int premake = 2; // 미리 생성할 미래 파티션 개수
+        private Duration retention = Duration.ofDays(180);
+    }
+
+    @Getter
+    @Setter
+    public static class HotTier {
+        private boolean enabled = true;
+        private Duration retention = Duration.ofHours(6);
+        private int blockBytes = 4096;
+        private long maxBytes = 32L * 1024 * 1024; // off-heap 메모리 예산
+    }
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private boolean enabled;
+        private String keyPrefix = "sensor:device:";
+        private String channel = "sensor:updates"; // 니어 캐시 무효화 + 최신 값 복제 채널
+        private int batchSize = 500;
+        private int nearCacheSize = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkWriter {
+        private boolean enabled;
+        private int batchSize = 1000;
+        private Duration linger = Duration.ofMillis(20); // 배치를 모으기 위한 최대 대기 시간
+        private int queueCapacity = 50000;
+    }
+
+    @Getter
+    @Setter
+    public static class Aggregation {
+        private boolean rollupEnabled = true;
+        private Duration rollupResolution = Duration.ofMinutes(1);
+        private Duration rollupRetention = Duration.ofHours(6);
+        private double compression = 100; // t-digest 압축 계수 (클수록 정확, 메모리 증가)
+        private int maxBuckets = 5000;
+        private int fetchSize = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        private boolean enabled;
+        private String directory = "data/sensor-archive";
+        private Duration after = Duration.ofDays(30); // 이 기간이 지난 일자는 세그먼트 파일로 이동
+        private int maxDaysPerRun = 7;
+    }
+
+    @Getter
+    @Setter
+    public static class Ingest {
+        private Duration maxClockSkew = Duration.ofMinutes(5); // 이보다 미래의 측정 시각은 거부
+        private Duration maxBackfillAge = Duration.ofDays(7); // 이보다 오래된 측정 시각은 거부
+        private int maxBatchSize = 10000; // 백필 요청 1건당 최대 샘플 수
+        private int streamBatchSize = 1000; // 스트리밍 일괄 수집 시 한 번에 저장할 샘플 수
+        private long maxInflatedBytes = 32L * 1024 * 1024; // gzip 본문을 풀었을 때 허용할 최대 크기
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+        private long interval = 500; // 실시간 전송 주기 (ms) - 주기마다 타입·장치별 최신 값 하나만 전송
+        private boolean legacyTopic = true; // /topic/sensor-data 단건 메시지 유지 여부
+    }
+
+    public enum PartitionInterval {
+        WEEKLY,
+        MONTHLY
+    }
+}
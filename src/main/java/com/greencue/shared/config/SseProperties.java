@@ -0,0 +1,19 @@
+package com.greencue.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+    private int replayCapacity = 4096; // 재연결 시 Last-Event-ID 이후를 다시 보낼 수 있는 최근 이벤트 수
+    private int maxConnections = 1000;
+    private int batchSize = 256; // 연결당 한 번에 꺼내 전송하는 이벤트 수
+    private Duration heartbeat = Duration.ofSeconds(15); // 이벤트가 없을 때 연결 유지용 주석 전송 주기
+    private Duration timeout = Duration.ofMinutes(30); // 연결 최대 유지 시간 - 이후 클라이언트가 Last-Event-ID 로 재연결
+}
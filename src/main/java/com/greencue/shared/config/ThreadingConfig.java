@@ -0,0 +1,34 @@
+package com.greencue.shared.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실행 스레드 모드 설정 (spring.threads.virtual.enabled)
+ * - 가상 스레드 모드: Tomcat 요청, @Scheduled / @Async 는 Spring Boot 가 가상 스레드로 실행
+ * - MQTT 수신 콜백은 CRT 이벤트 루프 대신 메시지마다 가상 스레드에서 실행 (JDBC/Redis 대기가 이벤트 루프를 막지 않음)
+ * - 플랫폼 스레드 모드에서는 기존처럼 이벤트 루프에서 바로 실행
+ */
+@Configuration
+public class ThreadingConfig {
+
+    public static final String MQTT_DISPATCH_EXECUTOR = "mqttDispatchExecutor";
+
+    @Bean(name = MQTT_DISPATCH_EXECUTOR, destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualMqttDispatchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mqtt-dispatch-", 0).factory());
+    }
+
+    @Bean(name = MQTT_DISPATCH_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor inlineMqttDispatchExecutor() {
+        return Runnable::run;
+    }
+}
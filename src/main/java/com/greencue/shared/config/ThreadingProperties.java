@@ -0,0 +1,17 @@
+package com.greencue.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "threading")
+public class ThreadingProperties {
+    private boolean pinningDiagnostics = true; // 가상 스레드 모드에서 캐리어 스레드 고정(pinning) 기록
+    private Duration pinningThreshold = Duration.ofMillis(20); // 이보다 오래 고정된 경우만 기록
+    private int pinningMaxSites = 1000; // 집계할 고정 발생 위치 수 상한
+}
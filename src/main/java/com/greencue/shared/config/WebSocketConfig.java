@@ -12,8 +12,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        config.enableSimpleBroker("/topic", "/queue"); // /queue: 세션 전용 (조건부 구독 등)
         config.setApplicationDestinationPrefixes("/app");
+        config.setPreservePublishOrder(true); // 세션별 전송 순서 유지 - 대시보드 변경분 seq 가 뒤바뀌어 재동기화되지 않도록
     }
 
     @Override
@@ -0,0 +1,126 @@
+package com.greencue.shared.infrastructure.diagnostics;
+
+import com.greencue.shared.config.ThreadingProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단
+ * - JFR jdk.VirtualThreadPinned 이벤트를 앱 안에서 구독 (별도 JVM 옵션이나 파일 기록 없음)
+ * - synchronized 블록 안에서 I/O·락 대기 등으로 캐리어 스레드가 임계값 이상 묶이면 발생 위치별로 집계
+ * - 위치마다 처음 한 번만 스택과 함께 경고 로그, 이후는 횟수만 증가
+ * - 발생 위치는 스택에서 처음 나오는 애플리케이션 코드 프레임 기준
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "threading", name = "pinning-diagnostics", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.greencue.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final ThreadingProperties properties;
+    private final Map<String, AtomicLong> countsBySite = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(ThreadingProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(properties.getPinningThreshold()).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("가상 스레드 고정 진단 시작 (임계값 {}ms)", properties.getPinningThreshold().toMillis());
+        } catch (Exception e) {
+            log.warn("가상 스레드 고정 진단을 시작할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * 발생 위치별 고정 횟수 (많은 순)
+     */
+    public Map<String, Long> countsBySite() {
+        return countsBySite.entrySet().stream()
+                .sorted(Map.Entry.<String, AtomicLong>comparingByValue(
+                        (a, b) -> Long.compare(b.get(), a.get())))
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get(),
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public long total() {
+        return total.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        total.incrementAndGet();
+        List<RecordedFrame> frames = framesOf(event.getStackTrace());
+        String site = siteOf(frames);
+
+        AtomicLong count = countsBySite.get(site);
+        if (count == null) {
+            if (countsBySite.size() >= properties.getPinningMaxSites()) {
+                return;
+            }
+            count = countsBySite.computeIfAbsent(site, k -> new AtomicLong());
+        }
+        if (count.incrementAndGet() == 1) {
+            log.warn("가상 스레드 고정 감지 ({}ms, 스레드={}): {}\n{}",
+                    event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "?",
+                    site, format(frames));
+        }
+    }
+
+    private static List<RecordedFrame> framesOf(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private static String siteOf(List<RecordedFrame> frames) {
+        RecordedFrame site = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.get(0));
+        return site != null ? describe(site) : "unknown";
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + describe(frame))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -1,17 +1,24 @@
 package com.greencue.shared.infrastructure.mqtt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.greencue.domain.control.api.dto.ControlCommandRequest;
 import com.greencue.domain.control.model.ControlCommand;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MqttControlService {
 
     private final MqttService mqttService;
+    private final ObjectMapper objectMapper;
 
     public void sendControlCommand(ControlCommandRequest dto) {
         String topic = String.format("smartfarm/control/%s/%s", dto.target(), dto.command());
@@ -22,13 +29,28 @@ public class MqttControlService {
     }
 
     public void sendControlCommand(ControlCommand command) {
+        publishControlCommand(command).join();
+        log.info("제어 명령 발행: topic={}, commandId={}", topicOf(command), command.getId());
+    }
+
+    // 비동기 발행 - 아웃박스 릴레이가 배치 단위로 사용
+    // 장치는 command_id 를 상태 토픽으로 되돌려 보내 명령 수행을 확인함
+    public CompletableFuture<Integer> publishControlCommand(ControlCommand command) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("command_id", command.getId());
+        payload.put("value", command.getCommandValue() != null ? command.getCommandValue() : 1);
+        try {
+            return mqttService.publishAsync(topicOf(command), objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 장치가 지정된 명령은 smartfarm/control/{target}/{command}/{deviceId} 로 해당 장치에만 전달
+    private static String topicOf(ControlCommand command) {
         String topic = String.format("smartfarm/control/%s/%s",
                 command.getTarget().toLowerCase(),
                 command.getCommand().toLowerCase());
-
-        String payload = command.getCommandValue() != null ? command.getCommandValue().toString() : "1";
-
-        mqttService.publish(topic, payload);
-        log.info("제어 명령 발행: topic={}, payload={}, commandId={}", topic, payload, command.getId());
+        return command.getDeviceId() != null ? topic + "/" + command.getDeviceId() : topic;
     }
 }
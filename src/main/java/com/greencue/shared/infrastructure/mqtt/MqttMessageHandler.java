@@ -1,6 +1,8 @@
 package com.greencue.shared.infrastructure.mqtt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greencue.domain.control.ack.CommandAckTracker;
+import com.greencue.domain.control.state.ActuatorStateRegistry;
 import com.greencue.domain.sensor.api.dto.SensorDataRequest;
 import com.greencue.domain.sensor.model.SensorType;
 import com.greencue.domain.sensor.service.SensorDataService;
@@ -10,6 +12,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -24,11 +32,21 @@ public class MqttMessageHandler {
     private static final String KEY_VALUE = "value";
     private static final String KEY_UNIT = "unit";
     private static final String KEY_DEVICE_ID = "device_id";
+    private static final String KEY_TIMESTAMP = "timestamp";
+    private static final long EPOCH_SECONDS_LIMIT = 100_000_000_000L; // 이보다 작으면 초 단위로 간주
     private static final String KEY_STATUS = "status";
+    private static final String KEY_TYPE = "type";
+    private static final String KEY_STATE = "state";
+    private static final String KEY_COMMAND_ID = "command_id";
+    private static final String KEY_RESULT = "result";
+    private static final String KEY_ERROR = "error";
+    private static final String RESULT_ERROR = "error";
 
     private final MqttService mqttService;
     private final MqttProperties mqttProperties;
     private final SensorDataService sensorDataService;
+    private final CommandAckTracker commandAckTracker;
+    private final ActuatorStateRegistry actuatorStateRegistry;
     private final ObjectMapper objectMapper;
 
     // 토픽별 센서 타입 맵
@@ -66,6 +84,7 @@ public class MqttMessageHandler {
             Float value = getFloatValue(data.get(KEY_VALUE));
             String unit = (String) data.get(KEY_UNIT);
             String deviceId = (String) data.get(KEY_DEVICE_ID);
+            LocalDateTime measuredAt = getTimestamp(data.get(KEY_TIMESTAMP));
 
             if (value != null) {
                 SensorType sensorType = SensorType.fromMqttType(mqttSensorType);
@@ -74,11 +93,18 @@ public class MqttMessageHandler {
                         sensorType.getCode(), // "temp", "humi", "light"
                         value,
                         unit,
-                        deviceId
+                        deviceId,
+                        measuredAt
                 );
 
-                sensorDataService.saveSensorData(sensorDataRequest);
-                log.info("센서 데이터 저장 완료: {} = {} {}", sensorType.name(), value, unit);
+                sensorDataService.ingestSensorData(sensorDataRequest)
+                        .whenComplete((saved, error) -> {
+                            if (error != null) {
+                                log.error("센서 데이터 저장 실패 [{}]: {}", mqttSensorType, error.getMessage());
+                            } else {
+                                log.info("센서 데이터 저장 완료: {} = {} {}", sensorType.name(), value, unit);
+                            }
+                        });
             } else {
                 log.warn("센서 데이터 파싱 실패: {}", payload);
             }
@@ -98,11 +124,62 @@ public class MqttMessageHandler {
 
             log.info("액추에이터 상태 업데이트: deviceId={}, status={}", deviceId, status);
 
+            // 상태 보고 {"type": 대상, "state": {...}} 를 최신 상태에 반영 (실패 보고는 빈 상태)
+            if (status != null && status.get(KEY_STATE) instanceof Map<?, ?> state) {
+                LocalDateTime reportedAt = getTimestamp(data.get(KEY_TIMESTAMP));
+                Map<String, Object> fields = new LinkedHashMap<>();
+                state.forEach((key, value) -> fields.put(String.valueOf(key), value));
+                actuatorStateRegistry.update(deviceId, (String) status.get(KEY_TYPE), fields,
+                        reportedAt != null ? reportedAt : LocalDateTime.now());
+            }
+
+            // 제어 명령에 대한 응답이면 명령 확인 처리
+            Long commandId = getLongValue(data.get(KEY_COMMAND_ID));
+            if (commandId != null) {
+                boolean success = !RESULT_ERROR.equals(data.get(KEY_RESULT));
+                Object error = data.get(KEY_ERROR);
+                commandAckTracker.acknowledge(commandId, success, error != null ? error.toString() : null);
+            }
+
         } catch (Exception e) {
             log.error("상태 업데이트 처리 중 오류: {}", e.getMessage(), e);
         }
     }
 
+    // 장치 측정 시각: epoch 초/밀리초 숫자 또는 ISO-8601 문자열 (없거나 해석할 수 없으면 null)
+    private LocalDateTime getTimestamp(Object value) {
+        if (value instanceof Number number) {
+            long epochMillis = number.doubleValue() < EPOCH_SECONDS_LIMIT
+                    ? Math.round(number.doubleValue() * 1000)
+                    : number.longValue();
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        } else if (value instanceof String str) {
+            try {
+                return OffsetDateTime.parse(str).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } catch (DateTimeParseException e) {
+                try {
+                    return LocalDateTime.parse(str);
+                } catch (DateTimeParseException ignored) {
+                    log.warn("센서 측정 시각 파싱 실패, 수신 시각 사용: {}", str);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Long getLongValue(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        } else if (value instanceof String str) {
+            try {
+                return Long.parseLong(str);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     private Float getFloatValue(Object value) {
         if (value instanceof Number number) {
             return number.floatValue();
@@ -1,9 +1,10 @@
 package com.greencue.shared.infrastructure.mqtt;
 
 import com.greencue.shared.config.MqttProperties;
+import com.greencue.shared.config.ThreadingConfig;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.crt.io.ClientBootstrap;
 import software.amazon.awssdk.crt.io.EventLoopGroup;
@@ -14,16 +15,25 @@ import software.amazon.awssdk.crt.mqtt.QualityOfService;
 import software.amazon.awssdk.iot.AwsIotMqttConnectionBuilder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MqttService {
 
     private final MqttProperties mqttProperties;
+    private final Executor dispatchExecutor; // 수신 콜백 실행 - 가상 스레드 모드가 아니면 이벤트 루프에서 바로 실행
     private MqttClientConnection connection;
 
+    public MqttService(MqttProperties mqttProperties,
+                       @Qualifier(ThreadingConfig.MQTT_DISPATCH_EXECUTOR) Executor dispatchExecutor) {
+        this.mqttProperties = mqttProperties;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
     @PostConstruct
     public void init() {
         try {
@@ -55,15 +65,19 @@ public class MqttService {
 
 
     public void publish(String topic, String payload) {
+        publishAsync(topic, payload).join();
+        log.info("MQTT 발행 - topic: {}, payload: {}", topic, payload);
+    }
+
+    // 발행 완료(PUBACK)를 기다리지 않고 반환 - 여러 메시지를 한 번에 보낼 때 사용
+    public CompletableFuture<Integer> publishAsync(String topic, String payload) {
         if (connection == null) {
-            throw new IllegalStateException("MQTT 연결되지 않음");
+            return CompletableFuture.failedFuture(new IllegalStateException("MQTT 연결되지 않음"));
         }
 
-        connection.publish(
+        return connection.publish(
                 new MqttMessage(topic, payload.getBytes(StandardCharsets.UTF_8), QualityOfService.AT_LEAST_ONCE, false)
-        ).join();
-
-        log.info("MQTT 발행 - topic: {}, payload: {}", topic, payload);
+        );
     }
 
     public void subscribe(String topic, Consumer<String> messageHandler) {
@@ -76,7 +90,11 @@ public class MqttService {
                 QualityOfService.AT_LEAST_ONCE,
                 message -> {
                     String payload = new String(message.getPayload(), StandardCharsets.UTF_8);
-                    messageHandler.accept(payload);
+                    try {
+                        dispatchExecutor.execute(() -> messageHandler.accept(payload));
+                    } catch (RejectedExecutionException e) {
+                        log.warn("종료 중이라 MQTT 메시지 처리 생략 - topic: {}", topic);
+                    }
                 }
         ).join();
     }
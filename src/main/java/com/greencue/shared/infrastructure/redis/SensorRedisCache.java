@@ -0,0 +1,214 @@
+package com.greencue.shared.infrastructure.redis;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.storage.SensorLatestRegistry;
+import com.greencue.shared.config.SensorProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 장치별 Redis 해시 캐시 (sensor:device:{deviceId} → 타입별 바이너리 샘플)
+ * - 쓰기는 장치/타입별로 최신 값만 모아 두었다가 파이프라인으로 일괄 반영
+ * - 같은 파이프라인에서 갱신 메시지를 발행하여 다른 노드의 니어 캐시 무효화 및 최신 값 레지스트리 복제
+ * - 해시 쓰기는 Lua 스크립트로 (측정 시각, id) 가 저장된 값보다 앞서지 않을 때만 반영 - 여러 노드가 같은 장치를 써도 최신 값 유지
+ */
+@Component
+@ConditionalOnProperty(prefix = "sensor.redis", name = "enabled", havingValue = "true")
+@Slf4j
+public class SensorRedisCache {
+
+    private static final String NULL_DEVICE = "-";
+    // 저장된 값과 (측정 시각 epoch ms, id) 를 바이트 단위로 비교하여 같거나 새로울 때만 HSET
+    // 값 레이아웃은 SensorSampleCodec 참고 - id(1~8), 측정 시각(9~16) 모두 big-endian
+    private static final byte[] WRITE_IF_NEWER_SCRIPT = (
+            "local cur = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if cur then " +
+            "  local new = ARGV[2] " +
+            "  for _, i in ipairs({9, 10, 11, 12, 13, 14, 15, 16, 1, 2, 3, 4, 5, 6, 7, 8}) do " +
+            "    local a, b = string.byte(new, i), string.byte(cur, i) " +
+            "    if a ~= b then " +
+            "      if a < b then return 0 end " +
+            "      break " +
+            "    end " +
+            "  end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return 1").getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SensorLatestRegistry latestRegistry;
+    private final SensorProperties.Redis config;
+
+    // 자신이 발행한 메시지를 구분하기 위한 노드 식별자
+    private final UUID nodeId = UUID.randomUUID();
+    private final Map<PendingKey, SensorDataResponse> pending = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, SensorDataResponse>> nearCache = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SensorRedisCache(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            SensorLatestRegistry latestRegistry,
+                            SensorProperties sensorProperties) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.latestRegistry = latestRegistry;
+        this.config = sensorProperties.getRedis();
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener((message, pattern) -> handleMessage(message.getBody()),
+                new ChannelTopic(config.getChannel()));
+        log.info("센서 캐시 갱신 채널 구독: {}", config.getChannel());
+    }
+
+    /**
+     * 캐시 쓰기 예약 - 장치/타입별로 최신 값만 유지하며 flush 시 일괄 반영
+     */
+    public void enqueue(SensorDataResponse sample) {
+        pending.merge(new PendingKey(sample.deviceId(), sample.type()), sample, SensorRedisCache::newer);
+        if (pending.size() >= config.getBatchSize()) {
+            flush();
+        }
+    }
+
+    /**
+     * 예약된 쓰기를 파이프라인 한 번으로 Redis 에 반영
+     */
+    @Scheduled(fixedDelayString = "${sensor.redis.flush-interval:200}")
+    public void flush() {
+        if (pending.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<SensorDataResponse> batch = drainPending();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            byte[] channel = config.getChannel().getBytes(StandardCharsets.UTF_8);
+            byte[] message = SensorSampleCodec.encodeMessage(nodeId, batch);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (SensorDataResponse sample : batch) {
+                    writeSample(connection, sample);
+                }
+                connection.publish(channel, message);
+                return null;
+            });
+
+            batch.forEach(this::updateNearCache);
+            log.debug("센서 캐시 일괄 반영: {}건", batch.size());
+        } catch (Exception e) {
+            // 캐시 반영 실패가 수집 경로를 막지 않도록 로그만 남김
+            log.warn("센서 캐시 일괄 반영 실패: {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 장치의 타입별 최신 샘플 조회 (니어 캐시 → Redis)
+     */
+    public List<SensorDataResponse> getDeviceSamples(String deviceId) {
+        Map<String, SensorDataResponse> cached = nearCache.get(deviceKey(deviceId));
+        if (cached == null) {
+            cached = loadDevice(deviceId);
+        }
+        return cached.values().stream()
+                .sorted(Comparator.comparing(SensorDataResponse::type))
+                .toList();
+    }
+
+    private Map<String, SensorDataResponse> loadDevice(String deviceId) {
+        String key = deviceKey(deviceId);
+        Map<byte[], byte[]> hash = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+                connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8)));
+
+        Map<String, SensorDataResponse> samples = new ConcurrentHashMap<>();
+        if (hash != null) {
+            hash.forEach((field, value) -> {
+                String type = new String(field, StandardCharsets.UTF_8);
+                samples.put(type, SensorSampleCodec.decode(value, type, deviceId));
+            });
+        }
+
+        if (nearCache.size() >= config.getNearCacheSize()) {
+            nearCache.keySet().stream().findAny().ifPresent(nearCache::remove);
+        }
+        nearCache.put(key, samples);
+        return samples;
+    }
+
+    // 다른 노드가 더 최근 샘플을 먼저 썼다면 덮어쓰지 않음
+    private void writeSample(RedisConnection connection, SensorDataResponse sample) {
+        connection.scriptingCommands().eval(WRITE_IF_NEWER_SCRIPT, ReturnType.INTEGER, 1,
+                deviceKey(sample.deviceId()).getBytes(StandardCharsets.UTF_8),
+                sample.type().getBytes(StandardCharsets.UTF_8),
+                SensorSampleCodec.encode(sample));
+    }
+
+    private List<SensorDataResponse> drainPending() {
+        List<SensorDataResponse> batch = new ArrayList<>(pending.size());
+        for (PendingKey key : pending.keySet()) {
+            SensorDataResponse sample = pending.remove(key);
+            if (sample != null) {
+                batch.add(sample);
+            }
+        }
+        return batch;
+    }
+
+    // 이 노드가 쓴 값은 니어 캐시에 바로 반영 (이미 적재된 장치만)
+    private void updateNearCache(SensorDataResponse sample) {
+        Map<String, SensorDataResponse> cached = nearCache.get(deviceKey(sample.deviceId()));
+        if (cached != null) {
+            cached.merge(sample.type(), sample, SensorRedisCache::newer);
+        }
+    }
+
+    private void handleMessage(byte[] body) {
+        try {
+            SensorSampleCodec.Message message = SensorSampleCodec.decodeMessage(body);
+            if (nodeId.equals(message.origin())) {
+                return;
+            }
+            for (SensorDataResponse sample : message.samples()) {
+                nearCache.remove(deviceKey(sample.deviceId()));
+                latestRegistry.update(sample);
+            }
+        } catch (Exception e) {
+            log.error("센서 캐시 갱신 메시지 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private String deviceKey(String deviceId) {
+        return config.getKeyPrefix() + Objects.requireNonNullElse(deviceId, NULL_DEVICE);
+    }
+
+    private static SensorDataResponse newer(SensorDataResponse current, SensorDataResponse candidate) {
+        return candidate.createdAt().isBefore(current.createdAt()) ? current : candidate;
+    }
+
+    private record PendingKey(String deviceId, String type) {
+    }
+}
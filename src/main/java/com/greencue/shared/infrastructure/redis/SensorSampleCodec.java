@@ -0,0 +1,121 @@
+package com.greencue.shared.infrastructure.redis;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 에 저장/발행하는 센서 샘플의 바이너리 인코딩
+ * - 해시 값: id(8) + 측정 시각 epoch ms(8) + 값(4) + 단위 (타입/장치는 해시 필드와 키로 표현)
+ * - 갱신 메시지: 발행 노드 UUID + 샘플 목록 (타입/장치 포함)
+ */
+public final class SensorSampleCodec {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private SensorSampleCodec() {
+    }
+
+    public static byte[] encode(SensorDataResponse sample) {
+        return write(out -> writeBody(out, sample));
+    }
+
+    public static SensorDataResponse decode(byte[] bytes, String type, String deviceId) {
+        return read(bytes, in -> readBody(in, type, deviceId));
+    }
+
+    public static byte[] encodeMessage(UUID origin, List<SensorDataResponse> samples) {
+        return write(out -> {
+            out.writeLong(origin.getMostSignificantBits());
+            out.writeLong(origin.getLeastSignificantBits());
+            out.writeInt(samples.size());
+            for (SensorDataResponse sample : samples) {
+                writeNullableString(out, sample.type());
+                writeNullableString(out, sample.deviceId());
+                writeBody(out, sample);
+            }
+        });
+    }
+
+    public static Message decodeMessage(byte[] bytes) {
+        return read(bytes, in -> {
+            UUID origin = new UUID(in.readLong(), in.readLong());
+            int count = in.readInt();
+            List<SensorDataResponse> samples = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String type = readNullableString(in);
+                String deviceId = readNullableString(in);
+                samples.add(readBody(in, type, deviceId));
+            }
+            return new Message(origin, samples);
+        });
+    }
+
+    private static void writeBody(DataOutputStream out, SensorDataResponse sample) throws IOException {
+        out.writeLong(sample.id() != null ? sample.id() : -1L);
+        out.writeLong(sample.createdAt().atZone(ZONE).toInstant().toEpochMilli());
+        out.writeFloat(sample.sensorValue());
+        writeNullableString(out, sample.unit());
+    }
+
+    private static SensorDataResponse readBody(DataInputStream in, String type, String deviceId) throws IOException {
+        long id = in.readLong();
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZONE);
+        float value = in.readFloat();
+        String unit = readNullableString(in);
+        return new SensorDataResponse(id >= 0 ? id : null, type, value, unit, deviceId, createdAt);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static byte[] write(IoWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T read(byte[] bytes, IoReader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Message(UUID origin, List<SensorDataResponse> samples) {
+    }
+
+    @FunctionalInterface
+    private interface IoWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface IoReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+}
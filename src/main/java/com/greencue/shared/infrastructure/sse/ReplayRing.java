@@ -0,0 +1,91 @@
+package com.greencue.shared.infrastructure.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 이벤트 고정 크기 링 버퍼
+ * - 이벤트 ID 는 1부터 1씩 증가하며, 용량을 넘으면 가장 오래된 이벤트를 덮어씀
+ * - 읽는 쪽은 각자 커서(마지막으로 받은 ID)만 들고 있으므로 연결마다 따로 쌓이는 버퍼가 없음
+ * - 커서가 덮어쓴 구간으로 밀려나면 missed 로 알려주고 남아있는 가장 오래된 이벤트부터 이어감
+ */
+class ReplayRing {
+
+    private final SseEvent[] slots;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long lastId; // lock 으로 보호
+
+    ReplayRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new SseEvent[capacity];
+    }
+
+    long append(String name, byte[] json) {
+        lock.lock();
+        try {
+            long id = ++lastId;
+            slots[(int) (id % slots.length)] = new SseEvent(id, name, json);
+            appended.signalAll();
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastId() {
+        lock.lock();
+        try {
+            return lastId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * cursor 이후 이벤트를 최대 max 개 반환 - 없으면 timeout 동안 기다리고, 그래도 없으면 빈 목록
+     */
+    Batch awaitAfter(long cursor, long timeoutMillis, int max) throws InterruptedException {
+        lock.lock();
+        try {
+            // 다른 서버 인스턴스나 재기동 이전의 ID - 이어갈 수 없으므로 현재 위치부터
+            if (cursor > lastId) {
+                return new Batch(List.of(), true, lastId);
+            }
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (lastId <= cursor) {
+                if (nanos <= 0) {
+                    return new Batch(List.of(), false, cursor);
+                }
+                nanos = appended.awaitNanos(nanos);
+            }
+
+            long oldest = Math.max(1, lastId - slots.length + 1);
+            boolean missed = cursor + 1 < oldest;
+            long from = missed ? oldest : cursor + 1;
+            long to = Math.min(lastId, from + max - 1);
+            List<SseEvent> events = new ArrayList<>((int) (to - from + 1));
+            for (long id = from; id <= to; id++) {
+                events.add(slots[(int) (id % slots.length)]);
+            }
+            return new Batch(events, missed, to);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    record SseEvent(long id, String name, byte[] json) {
+    }
+
+    /**
+     * @param missed 커서 이후 이벤트 일부가 이미 덮어써져 전달할 수 없었음
+     * @param cursor 이 배치를 전송한 뒤의 커서
+     */
+    record Batch(List<SseEvent> events, boolean missed, long cursor) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.greencue.shared.infrastructure.sse;
+
+import com.greencue.shared.config.SseProperties;
+import com.greencue.shared.infrastructure.web.SerializedResponseCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events 실시간 이벤트 허브
+ * - 발행된 이벤트는 한 번만 직렬화하여 재전송용 링 버퍼에 넣고, 연결마다 가상 스레드 하나가 자기 커서부터 읽어 전송
+ * - 재연결 시 Last-Event-ID 이후 이벤트를 링 버퍼에서 이어서 전송 (DB 조회 없음)
+ * - 이벤트 ID 는 "{인스턴스 태그}-{순번}" - 재기동 전이나 다른 서버 인스턴스의 ID 로 재연결하면 reset 이벤트부터 보냄
+ * - 느린 연결은 전송이 막혀 있는 동안 커서만 뒤처지고 서버 메모리는 늘지 않음
+ * - 링 버퍼에서 밀려난 구간이 있으면 reset 이벤트를 먼저 보냄 - 클라이언트는 스냅샷을 다시 조회
+ * - 이벤트가 없을 때는 주기적으로 주석을 보내 끊긴 연결을 정리
+ */
+@Component
+@Slf4j
+public class SseEventHub {
+
+    public static final String RESET_EVENT = "reset";
+    private static final byte[] RESET_PAYLOAD = "{\"reason\":\"replay-gap\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+    private final SseProperties properties;
+    private final SerializedResponseCache serializer;
+    private final ReplayRing ring;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-writer-", 0).factory());
+
+    public SseEventHub(SseProperties properties, SerializedResponseCache serializer) {
+        this.properties = properties;
+        this.serializer = serializer;
+        this.ring = new ReplayRing(properties.getReplayCapacity());
+    }
+
+    /**
+     * 이벤트 발행 - 연결 수와 관계없이 직렬화는 한 번
+     */
+    public void publish(String name, Object payload) {
+        publishJson(name, serializer.serialize(payload));
+    }
+
+    public void publishJson(String name, byte[] json) {
+        ring.append(name, json);
+    }
+
+    /**
+     * 새 연결 - lastEventId 가 없으면 지금부터의 이벤트만, 있으면 그 이후부터 전송
+     * (이 인스턴스가 발급하지 않은 ID 면 reset 이벤트 후 지금부터 전송)
+     * @return 연결 수 상한을 넘으면 null
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (connectionCount.incrementAndGet() > properties.getMaxConnections()) {
+            connectionCount.decrementAndGet();
+            return null;
+        }
+
+        Long cursor = parseEventId(lastEventId);
+        boolean unknown = lastEventId != null && !lastEventId.isBlank() && cursor == null;
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Connection connection = new Connection(emitter, cursor != null ? cursor : ring.lastId(), unknown);
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> connection.close());
+        connections.add(connection);
+        writers.execute(connection::run);
+        return emitter;
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Connection connection : connections) {
+            connection.emitter.complete();
+            connection.close();
+        }
+        writers.shutdownNow();
+    }
+
+    // "{인스턴스 태그}-{순번}" 중 이 인스턴스의 태그인 경우만 순번 반환
+    private Long parseEventId(String eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        String prefix = instanceTag + "-";
+        String trimmed = eventId.trim();
+        if (!trimmed.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(trimmed.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String eventId(long id) {
+        return instanceTag + "-" + id;
+    }
+
+    private final class Connection {
+
+        private final SseEmitter emitter;
+        private long cursor;
+        private final boolean resetFirst; // 알 수 없는 Last-Event-ID 로 재연결
+        private volatile boolean closed;
+        private volatile Thread writer;
+
+        private Connection(SseEmitter emitter, long cursor, boolean resetFirst) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resetFirst = resetFirst;
+        }
+
+        private void run() {
+            writer = Thread.currentThread();
+            try {
+                if (resetFirst) {
+                    sendReset(cursor);
+                }
+                while (!closed) {
+                    ReplayRing.Batch batch = ring.awaitAfter(
+                            cursor, properties.getHeartbeat().toMillis(), properties.getBatchSize());
+                    if (batch.missed()) {
+                        sendReset(batch.events().isEmpty() ? batch.cursor() : batch.events().get(0).id() - 1);
+                    } else if (batch.events().isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    for (ReplayRing.SseEvent event : batch.events()) {
+                        emitter.send(SseEmitter.event()
+                                .id(eventId(event.id()))
+                                .name(event.name())
+                                .data(event.json(), MediaType.APPLICATION_JSON));
+                    }
+                    cursor = batch.cursor();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 연결 종료: {}", e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        private void sendReset(long resetId) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(eventId(resetId))
+                    .name(RESET_EVENT)
+                    .data(RESET_PAYLOAD, MediaType.APPLICATION_JSON));
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (connections.remove(this)) {
+                connectionCount.decrementAndGet();
+            }
+            Thread current = writer;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
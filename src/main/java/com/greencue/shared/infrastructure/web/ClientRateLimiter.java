@@ -0,0 +1,90 @@
+package com.greencue.shared.infrastructure.web;
+
+import com.greencue.shared.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트·규칙별 토큰 버킷
+ * - 버킷 하나를 "다음 요청이 이론상 도착할 시각(TAT)" long 하나로 표현하여 CAS 로만 갱신 (GCRA, 잠금 없음)
+ * - 버킷 맵은 ConcurrentHashMap 이므로 서로 다른 클라이언트끼리는 경합하지 않음
+ * - TAT 가 현재 시각 이전이면 버킷이 가득 찬 상태이므로, 그런 버킷은 지워도 제한 결과가 달라지지 않음 (유휴 정리)
+ * - 버킷 수가 상한에 닿으면 새 클라이언트는 규칙별 공용 버킷을 함께 사용 - 메모리는 늘지 않고 제한은 유지
+ */
+@Component
+@Slf4j
+public class ClientRateLimiter {
+
+    private static final String OVERFLOW_CLIENT = "*";
+
+    private final RateLimitProperties properties;
+    private final Map<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public ClientRateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (rule.getCapacity() < 1 || !(rule.getRefillPerSecond() > 0)) {
+                throw new IllegalArgumentException("잘못된 요청 제한 규칙: " + rule.getName());
+            }
+        }
+    }
+
+    /**
+     * 요청 1건 허용 여부 - 거부되면 다시 시도할 수 있을 때까지의 나노초, 허용되면 0
+     */
+    public long tryAcquire(int ruleIndex, RateLimitProperties.Rule rule, String client) {
+        long now = System.nanoTime();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond());
+        long tolerance = interval * (rule.getCapacity() - 1L);
+
+        AtomicLong bucket = bucket(new BucketKey(ruleIndex, client), now);
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, now);
+            long wait = start - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // 가득 찬 버킷 정리 - 정리 중에 다시 쓰인 버킷은 TAT 가 미래이므로 남음
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("요청 제한 유휴 버킷 정리: {}개 (남은 버킷 {}개)", evicted, buckets.size());
+        }
+    }
+
+    private AtomicLong bucket(BucketKey key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxClients()) {
+            key = new BucketKey(key.ruleIndex(), OVERFLOW_CLIENT);
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private record BucketKey(int ruleIndex, String client) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.greencue.shared.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greencue.shared.common.dto.ApiResponse;
+import com.greencue.shared.config.SensorProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Content-Encoding: gzip 요청 본문을 풀어서 전달
+ * - 장치가 버퍼링한 측정값을 압축해서 올리는 백필/대량 수집 요청용
+ * - 압축 해제는 스트리밍으로 수행되므로 본문 전체를 메모리에 올리지 않음
+ * - 풀린 크기가 sensor.ingest.max-inflated-bytes 를 넘으면 읽기를 중단하고 413 응답 (압축 폭탄 방지)
+ */
+@Component
+@Slf4j
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final SensorProperties sensorProperties;
+    private final ObjectMapper objectMapper;
+
+    public GzipRequestFilter(SensorProperties sensorProperties, ObjectMapper objectMapper) {
+        this.sensorProperties = sensorProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        return encoding == null || !GZIP.equalsIgnoreCase(encoding.trim());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        GzipRequestWrapper wrapper = new GzipRequestWrapper(request, sensorProperties.getIngest().getMaxInflatedBytes());
+        filterChain.doFilter(wrapper, response);
+
+        // 본문 해석 오류로 처리된 응답이 아직 전송 전이면 413 으로 교체
+        if (wrapper.isLimitExceeded()) {
+            log.warn("압축 해제 본문 크기 제한 초과: {} {}", request.getMethod(), request.getRequestURI());
+            if (response.isCommitted()) {
+                return;
+            }
+            response.reset();
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+                    "압축을 푼 요청 본문이 너무 큽니다.", "PAYLOAD_TOO_LARGE"));
+        }
+    }
+
+    private static class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+        private final long maxInflatedBytes;
+        private GzipServletInputStream inputStream;
+
+        GzipRequestWrapper(HttpServletRequest request, long maxInflatedBytes) {
+            super(request);
+            this.maxInflatedBytes = maxInflatedBytes;
+        }
+
+        @Override
+        public synchronized ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream source = super.getInputStream();
+                inputStream = new GzipServletInputStream(source, new GZIPInputStream(source, 8192), maxInflatedBytes);
+            }
+            return inputStream;
+        }
+
+        synchronized boolean isLimitExceeded() {
+            return inputStream != null && inputStream.limitExceeded;
+        }
+
+        // 압축 해제 후 길이는 알 수 없음
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHiddenHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHiddenHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        private static boolean isHiddenHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static class GzipServletInputStream extends ServletInputStream {
+
+        private final ServletInputStream source;
+        private final InputStream delegate;
+        private final long maxBytes;
+        private long inflated;
+        private boolean finished;
+        private volatile boolean limitExceeded;
+
+        GzipServletInputStream(ServletInputStream source, InputStream delegate, long maxBytes) {
+            this.source = source;
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            finished = b < 0;
+            if (!finished) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            finished = read < 0;
+            if (!finished) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return finished || source.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            source.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        private void count(int bytes) throws IOException {
+            inflated += bytes;
+            if (inflated > maxBytes) {
+                limitExceeded = true;
+                throw new IOException("압축 해제 본문 크기 제한 초과: " + maxBytes + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.greencue.shared.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greencue.shared.common.dto.ApiResponse;
+import com.greencue.shared.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 요청 제한 (HTTP 429)
+ * - 제어 명령/센서 수집처럼 DB 와 브로커에 부담을 주는 엔드포인트를 규칙으로 지정하고, (클라이언트 주소, 규칙) 마다 토큰 버킷 적용
+ * - 본문 압축 해제나 컨트롤러 처리 전에 거부하도록 다른 필터보다 먼저 실행
+ * - 거부 시 Retry-After 헤더에 다시 시도할 수 있는 시각(초)을 담아 응답
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitProperties properties;
+    private final ClientRateLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, ClientRateLimiter limiter, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getRules().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int ruleIndex = findRule(request);
+        if (ruleIndex < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Rule rule = properties.getRules().get(ruleIndex);
+        String client = clientAddress(request);
+        long waitNanos = limiter.tryAcquire(ruleIndex, rule, client);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.debug("요청 제한 초과: 규칙={}, 클라이언트={}, {} {}", rule.getName(), client,
+                request.getMethod(), request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("요청이 너무 많습니다. " + retryAfter + "초 후 다시 시도해주세요.", "TOO_MANY_REQUESTS"));
+    }
+
+    // 처음 일치한 규칙의 순번 - 없으면 -1
+    private int findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitProperties.Rule rule = rules.get(i);
+            if (rule.getMethod() != null && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            for (String pattern : rule.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader(FORWARDED_FOR);
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String last = forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+                if (!last.isEmpty()) {
+                    return last;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
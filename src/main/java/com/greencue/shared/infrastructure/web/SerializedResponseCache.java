@@ -0,0 +1,99 @@
+package com.greencue.shared.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 자주 조회되는 응답의 직렬화 결과(JSON 바이트) 캐시
+ * - 키마다 데이터 버전과 함께 보관하고, 버전이 바뀌기 전까지는 같은 바이트를 그대로 응답
+ * - 버전은 데이터 쪽에서 정함 (변경 카운터 또는 최신 값 객체 자체)
+ * - 응답 봉투(ApiResponse)의 timestamp 는 직렬화한 시각, 즉 데이터가 바뀐 뒤 첫 조회 시각
+ * - 조건부 조회: 버전으로 ETag 를 만들고 If-None-Match 가 같으면 조회·직렬화 없이 304
+ * - ETag 에는 기동 시각을 넣어 재기동 후 버전 번호가 다시 시작되어도 이전 ETag 와 겹치지 않음
+ */
+@Component
+public class SerializedResponseCache {
+
+    private static final int MAX_ENTRIES = 10_000; // 장치별 키가 무한히 늘지 않도록 초과 시 비움
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+
+    public SerializedResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * key 의 버전이 version 과 같으면 캐시된 바이트, 아니면 body 를 직렬화하여 캐시 후 반환
+     */
+    public byte[] get(String key, Object version, Supplier<?> body) {
+        Entry entry = entries.get(key);
+        if (entry != null && Objects.equals(entry.version(), version)) {
+            return entry.bytes();
+        }
+
+        byte[] bytes = serialize(body.get());
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(version, bytes));
+        return bytes;
+    }
+
+    /**
+     * 조건부 조회 응답 - If-None-Match 가 현재 버전의 ETag 와 같으면 304, 아니면 캐시된 JSON 바이트로 200
+     * (버전은 데이터를 읽기 전에 구해야 함 - 그래야 오래된 데이터가 새 버전으로 캐시되지 않음)
+     */
+    public ResponseEntity<byte[]> conditional(String ifNoneMatch, String key, long version, Supplier<?> body) {
+        String etag = "W/\"" + instanceTag + "-" + Long.toString(version, 36) + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(get(key, version, body));
+    }
+
+    public byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("응답 직렬화 실패", e);
+        }
+    }
+
+    // If-None-Match 약한 비교 (쉼표로 구분된 여러 ETag, * 포함)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Entry(Object version, byte[] bytes) {
+    }
+}
@@ -0,0 +1,11 @@
+-- 장치 확인(ACK) 추적을 위한 컬럼 추가
+-- 발행 후 확인을 기다리는 명령(DELIVERED)만 응답 시간 초과 확인 대상으로 색인
+BEGIN;
+
+ALTER TABLE control_command
+    ADD COLUMN IF NOT EXISTS acked_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_control_command_awaiting_ack
+    ON control_command (delivered_at) WHERE status = 'DELIVERED';
+
+COMMIT;
@@ -0,0 +1,20 @@
+-- control_command 를 제어 명령 아웃박스로 사용하기 위한 컬럼 추가
+-- 기존 행은 이미 즉시 발행된 명령이므로 DELIVERED 로 표시하고, 이후 기본값은 PENDING
+BEGIN;
+
+ALTER TABLE control_command
+    ADD COLUMN IF NOT EXISTS status          VARCHAR(20) NOT NULL DEFAULT 'DELIVERED',
+    ADD COLUMN IF NOT EXISTS attempts        INTEGER     NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP   NOT NULL DEFAULT now(),
+    ADD COLUMN IF NOT EXISTS delivered_at    TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS last_error      VARCHAR(500);
+
+ALTER TABLE control_command ALTER COLUMN status SET DEFAULT 'PENDING';
+
+-- 릴레이 조회용: 발행 대기 중인 명령만 색인
+CREATE INDEX IF NOT EXISTS idx_control_command_pending
+    ON control_command (next_attempt_at, id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_control_command_pending_target
+    ON control_command (target, id) WHERE status = 'PENDING';
+
+COMMIT;
@@ -0,0 +1,18 @@
+-- 장치별 직렬 전달과 수동 명령 우선 처리
+-- priority: 0 수동, 1 예약, 2 자동화 규칙 (작을수록 먼저 전달)
+-- status 'SENDING': 릴레이가 임대하여 발행 중인 명령 (next_attempt_at 이 임대 만료 시각)
+BEGIN;
+
+ALTER TABLE control_command ADD COLUMN IF NOT EXISTS priority SMALLINT NOT NULL DEFAULT 0;
+
+UPDATE control_command SET priority = 2 WHERE rule_id IS NOT NULL AND status = 'PENDING';
+
+DROP INDEX IF EXISTS idx_control_command_pending;
+DROP INDEX IF EXISTS idx_control_command_pending_device;
+
+CREATE INDEX IF NOT EXISTS idx_control_command_queued
+    ON control_command (priority, id) WHERE status IN ('PENDING', 'SENDING');
+CREATE INDEX IF NOT EXISTS idx_control_command_queued_device
+    ON control_command (target, device_id, priority, id) WHERE status IN ('PENDING', 'SENDING');
+
+COMMIT;
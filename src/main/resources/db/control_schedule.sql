@@ -0,0 +1,22 @@
+-- 시간 기반 예약 제어 (ControlScheduler 가 기동 시 활성 예약을 타이밍 휠에 올림)
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS control_schedule (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name             VARCHAR(255),
+    target           VARCHAR(255) NOT NULL,
+    command          VARCHAR(255) NOT NULL,
+    command_value    REAL,
+    cron_expression  VARCHAR(100),
+    interval_seconds BIGINT,
+    is_active        BOOLEAN      DEFAULT TRUE,
+    last_run_at      TIMESTAMP,
+    created_at       TIMESTAMP    NOT NULL DEFAULT now(),
+    CONSTRAINT chk_control_schedule_trigger
+        CHECK ((cron_expression IS NULL) <> (interval_seconds IS NULL))
+);
+
+CREATE INDEX IF NOT EXISTS idx_control_schedule_active
+    ON control_schedule (id) WHERE is_active;
+
+COMMIT;
@@ -0,0 +1,25 @@
+-- 장치 그룹과 장치별 제어 명령
+-- device_id 가 없는 기존 명령은 대상 전체(브로드캐스트) 명령으로 유지
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS device_group (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255),
+    created_at  TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS device_group_member (
+    group_id  BIGINT       NOT NULL REFERENCES device_group (id) ON DELETE CASCADE,
+    device_id VARCHAR(255) NOT NULL,
+    PRIMARY KEY (group_id, device_id)
+);
+
+ALTER TABLE control_command ADD COLUMN IF NOT EXISTS device_id VARCHAR(255);
+
+-- 릴레이의 장치별 순서 보장 조회용 (대상 단위 색인을 대체)
+DROP INDEX IF EXISTS idx_control_command_pending_target;
+CREATE INDEX IF NOT EXISTS idx_control_command_pending_device
+    ON control_command (target, device_id, id) WHERE status = 'PENDING';
+
+COMMIT;
@@ -0,0 +1,44 @@
+-- sensor_data 를 created_at 기준 RANGE 파티션 테이블로 전환
+-- 파티션 생성/삭제는 애플리케이션(SensorDataPartitionManager, sensor.partition.enabled=true)이 관리한다.
+
+BEGIN;
+
+ALTER TABLE sensor_data RENAME TO sensor_data_legacy;
+
+-- 파티션 테이블의 PK 는 파티션 키(created_at)를 포함해야 한다
+CREATE TABLE sensor_data (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type         VARCHAR(255) NOT NULL,
+    sensor_value REAL         NOT NULL,
+    unit         VARCHAR(255) NOT NULL,
+    device_id    VARCHAR(255),
+    created_at   TIMESTAMP    NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_sensor_data_type_created_at ON sensor_data (type, created_at DESC);
+
+-- 기존 데이터 범위 ~ 다음 달까지 월 단위 파티션 생성 (이름 규칙은 SensorDataPartitionManager 와 동일)
+DO $$
+DECLARE
+    period_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM sensor_data_legacy), now()));
+BEGIN
+    WHILE period_start <= date_trunc('month', now()) + INTERVAL '1 month' LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS sensor_data_p%s PARTITION OF sensor_data FOR VALUES FROM (%L) TO (%L)',
+                       to_char(period_start, 'YYYYMMDD'), period_start, (period_start + INTERVAL '1 month')::date);
+        period_start := (period_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 미리 만든 구간 밖의 측정 시각(오래된 백필 등)을 받는 파티션 - 없으면 COPY 배치 전체가 실패한다
+-- 여기 쌓인 행은 SensorDataPartitionManager 가 관리 주기마다 구간 파티션으로 옮기고, 보존 기간이 지난 행은 삭제한다
+CREATE TABLE sensor_data_default PARTITION OF sensor_data DEFAULT;
+
+INSERT INTO sensor_data (id, type, sensor_value, unit, device_id, created_at)
+SELECT id, type, sensor_value, unit, device_id, created_at FROM sensor_data_legacy;
+
+SELECT setval(pg_get_serial_sequence('sensor_data', 'id'), (SELECT COALESCE(MAX(id), 1) FROM sensor_data));
+
+DROP TABLE sensor_data_legacy;
+
+COMMIT;
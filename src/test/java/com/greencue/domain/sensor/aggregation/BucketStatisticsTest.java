@@ -0,0 +1,86 @@
+package com.greencue.domain.sensor.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BucketStatisticsTest {
+
+    private static final double COMPRESSION = 100;
+
+    @Test
+    void mergeMatchesSinglePass() {
+        Random random = new Random(11);
+        double[] values = new double[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + random.nextGaussian() * 0.5; // 평균이 커서 단순 합산 방식이면 분산이 무너지는 입력
+        }
+
+        BucketStatistics single = new BucketStatistics(COMPRESSION);
+        for (double value : values) {
+            single.add(value);
+        }
+
+        // 크기가 제각각인 부분 집계를 병합 (빈 부분 포함)
+        int[] bounds = {0, 1, 1, 17, 4_000, 4_001, 30_000, values.length};
+        BucketStatistics merged = new BucketStatistics(COMPRESSION);
+        for (int p = 0; p + 1 < bounds.length; p++) {
+            BucketStatistics part = new BucketStatistics(COMPRESSION);
+            for (int i = bounds[p]; i < bounds[p + 1]; i++) {
+                part.add(values[i]);
+            }
+            merged.merge(part);
+        }
+
+        assertThat(merged.count()).isEqualTo(single.count());
+        assertThat(merged.min()).isEqualTo(single.min());
+        assertThat(merged.max()).isEqualTo(single.max());
+        assertThat(merged.mean()).isCloseTo(single.mean(), within(1e-9));
+        assertThat(merged.stddev()).isCloseTo(single.stddev(), within(1e-9));
+        assertThat(merged.stddev()).isCloseTo(0.5, within(0.01));
+        for (double q : new double[]{0.01, 0.5, 0.99}) {
+            assertThat(merged.quantile(q)).as("q=%s", q).isCloseTo(single.quantile(q), within(0.01));
+        }
+    }
+
+    @Test
+    void mergingEmptyIsNoOp() {
+        BucketStatistics statistics = new BucketStatistics(COMPRESSION);
+        statistics.add(1);
+        statistics.add(3);
+
+        statistics.merge(new BucketStatistics(COMPRESSION));
+
+        assertThat(statistics.count()).isEqualTo(2);
+        assertThat(statistics.mean()).isEqualTo(2);
+        assertThat(statistics.stddev()).isEqualTo(1);
+    }
+
+    @Test
+    void mergingIntoEmptyCopiesState() {
+        BucketStatistics other = new BucketStatistics(COMPRESSION);
+        other.add(-4);
+        other.add(6);
+
+        BucketStatistics statistics = new BucketStatistics(COMPRESSION);
+        statistics.merge(other);
+
+        assertThat(statistics.count()).isEqualTo(2);
+        assertThat(statistics.min()).isEqualTo(-4);
+        assertThat(statistics.max()).isEqualTo(6);
+        assertThat(statistics.mean()).isEqualTo(1);
+        assertThat(statistics.stddev()).isEqualTo(5);
+    }
+
+    @Test
+    void emptyStatistics() {
+        BucketStatistics statistics = new BucketStatistics(COMPRESSION);
+
+        assertThat(statistics.count()).isZero();
+        assertThat(statistics.stddev()).isNaN();
+        assertThat(statistics.quantile(0.5)).isNaN();
+    }
+}
@@ -0,0 +1,122 @@
+package com.greencue.domain.sensor.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    private static final double COMPRESSION = 100;
+    private static final int SIZE = 100_000;
+    private static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+    @Test
+    void uniformQuantilesStayCloseToExactRanks() {
+        Random random = new Random(42);
+        assertRankError(sample(random::nextDouble));
+    }
+
+    @Test
+    void normalQuantilesStayCloseToExactRanks() {
+        Random random = new Random(7);
+        assertRankError(sample(() -> 22 + random.nextGaussian() * 3));
+    }
+
+    @Test
+    void skewedQuantilesStayCloseToExactRanks() {
+        Random random = new Random(1234);
+        assertRankError(sample(() -> -Math.log(1 - random.nextDouble()) * 500));
+    }
+
+    @Test
+    void mergedSketchStaysCloseToExactRanks() {
+        Random random = new Random(99);
+        double[] values = sample(() -> 22 + random.nextGaussian() * 3);
+
+        QuantileSketch merged = new QuantileSketch(COMPRESSION);
+        int parts = 16;
+        for (int p = 0; p < parts; p++) {
+            QuantileSketch part = new QuantileSketch(COMPRESSION);
+            for (int i = p; i < values.length; i += parts) {
+                part.add(values[i]);
+            }
+            merged.merge(part);
+        }
+
+        assertThat(merged.count()).isEqualTo(values.length);
+        assertRankError(merged, values);
+    }
+
+    @Test
+    void extremesAreExact() {
+        QuantileSketch sketch = new QuantileSketch(COMPRESSION);
+        double[] values = sample(new Random(3)::nextGaussian);
+        for (double value : values) {
+            sketch.add(value);
+        }
+        Arrays.sort(values);
+
+        assertThat(sketch.quantile(0)).isEqualTo(values[0]);
+        assertThat(sketch.quantile(1)).isEqualTo(values[values.length - 1]);
+    }
+
+    @Test
+    void emptyAndSingleValue() {
+        QuantileSketch sketch = new QuantileSketch(COMPRESSION);
+        assertThat(sketch.quantile(0.5)).isNaN();
+        assertThat(sketch.count()).isZero();
+
+        sketch.add(21.5);
+        assertThat(sketch.count()).isEqualTo(1);
+        assertThat(sketch.quantile(0)).isEqualTo(21.5);
+        assertThat(sketch.quantile(0.5)).isEqualTo(21.5);
+        assertThat(sketch.quantile(1)).isEqualTo(21.5);
+    }
+
+    private static double[] sample(DoubleSupplier source) {
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = source.getAsDouble();
+        }
+        return values;
+    }
+
+    private static void assertRankError(double[] values) {
+        QuantileSketch sketch = new QuantileSketch(COMPRESSION);
+        for (double value : values) {
+            sketch.add(value);
+        }
+        assertRankError(sketch, values);
+    }
+
+    // 추정값의 실제 순위가 요청한 분위수에서 벗어난 정도 - 분포와 무관하게 비교할 수 있음
+    // t-digest 는 꼬리로 갈수록 센트로이드가 작아지므로 q(1-q) 에 비례하는 허용 오차를 사용
+    private static void assertRankError(QuantileSketch sketch, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double estimate = sketch.quantile(q);
+            double rank = (double) rank(sorted, estimate) / sorted.length;
+            double tolerance = Math.max(0.0005, 0.02 * q * (1 - q) * 4);
+            assertThat(rank).as("q=%s (estimate %s, exact %s)", q, estimate, sorted[(int) (q * (sorted.length - 1))])
+                    .isCloseTo(q, within(tolerance));
+        }
+    }
+
+    // estimate 이하인 값의 개수
+    private static int rank(double[] sorted, double estimate) {
+        int index = Arrays.binarySearch(sorted, estimate);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index + 1 < sorted.length && sorted[index + 1] == estimate) {
+            index++;
+        }
+        return index + 1;
+    }
+}
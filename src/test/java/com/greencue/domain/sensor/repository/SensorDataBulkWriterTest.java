@@ -0,0 +1,88 @@
+package com.greencue.domain.sensor.repository;
+
+import com.greencue.domain.sensor.model.SensorData;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensorDataBulkWriterTest {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    @Test
+    void encodeWritesHeaderTuplesAndTrailer() throws IOException {
+        SensorData temp = sample(7L, "temp", 23.5f, "℃", "greenhouse-1", LocalDateTime.of(2000, 1, 1, 0, 0, 0, 1000));
+        SensorData light = sample(8L, "light", 1200f, "lux", null, LocalDateTime.of(2024, 5, 17, 9, 30, 15, 250_000_000));
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(SensorDataBulkWriter.encode(List.of(temp, light))));
+
+        assertThat(in.readNBytes(SIGNATURE.length)).containsExactly(SIGNATURE);
+        assertThat(in.readInt()).isZero(); // flags
+        assertThat(in.readInt()).isZero(); // header extension length
+
+        assertTuple(in, 7L, "temp", 23.5f, "℃", "greenhouse-1", 1L);
+        assertTuple(in, 8L, "light", 1200f, "lux", null, 769_253_415_250_000L);
+
+        assertThat(in.readShort()).isEqualTo((short) -1);
+        assertThat(in.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void encodeUsesPostgresEpochForTimestamps() throws IOException {
+        SensorData beforeEpoch = sample(1L, "humi", 55f, "%RH", "d", LocalDateTime.of(1999, 12, 31, 23, 59, 59));
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(SensorDataBulkWriter.encode(List.of(beforeEpoch))));
+        in.skipNBytes(SIGNATURE.length + 8);
+
+        assertTuple(in, 1L, "humi", 55f, "%RH", "d", -1_000_000L);
+    }
+
+    @Test
+    void encodeEmptyBatchIsHeaderAndTrailerOnly() throws IOException {
+        byte[] encoded = SensorDataBulkWriter.encode(List.of());
+
+        assertThat(encoded).hasSize(SIGNATURE.length + 8 + 2);
+        assertThat(encoded[encoded.length - 2]).isEqualTo((byte) 0xFF);
+        assertThat(encoded[encoded.length - 1]).isEqualTo((byte) 0xFF);
+    }
+
+    private static void assertTuple(DataInputStream in, long id, String type, float value, String unit,
+                                    String deviceId, long micros) throws IOException {
+        assertThat(in.readShort()).isEqualTo((short) 6);
+
+        assertThat(in.readInt()).isEqualTo(8);
+        assertThat(in.readLong()).isEqualTo(id);
+        assertThat(readText(in)).isEqualTo(type);
+        assertThat(in.readInt()).isEqualTo(4);
+        assertThat(in.readFloat()).isEqualTo(value);
+        assertThat(readText(in)).isEqualTo(unit);
+        assertThat(readText(in)).isEqualTo(deviceId);
+        assertThat(in.readInt()).isEqualTo(8);
+        assertThat(in.readLong()).isEqualTo(micros);
+    }
+
+    // 길이 -1 은 NULL, 그 외에는 UTF-8 바이트 길이
+    private static String readText(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return length < 0 ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static SensorData sample(Long id, String type, float value, String unit, String deviceId,
+                                     LocalDateTime createdAt) {
+        return SensorData.builder()
+                .id(id)
+                .type(type)
+                .sensorValue(value)
+                .unit(unit)
+                .deviceId(deviceId)
+                .createdAt(createdAt)
+                .build();
+    }
+}
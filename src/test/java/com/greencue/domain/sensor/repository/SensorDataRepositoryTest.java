@@ -0,0 +1,144 @@
+package com.greencue.domain.sensor.repository;
+
+import com.greencue.domain.sensor.api.dto.SensorDataResponse;
+import com.greencue.domain.sensor.model.SensorData;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 레코드 직접 조회(생성자 projection)와 엔티티 조회 후 fromEntity 변환 비교
+ * - 결과가 같은지, projection 이 영속성 컨텍스트에 엔티티를 남기지 않는지 확인
+ * - 두 경로의 조회 시간을 함께 기록 (내장 DB 라 절대값보다 상대 비교용)
+ */
+@DataJpaTest
+class SensorDataRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SensorDataRepositoryTest.class);
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 0, 0);
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private SensorDataRepository sensorDataRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<SensorData> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(SensorData.builder()
+                    .type(i % 4 == 0 ? "humi" : "temp")
+                    .sensorValue(20f + (i % 50) * 0.1f)
+                    .unit(i % 4 == 0 ? "%RH" : "℃")
+                    .deviceId("greenhouse-" + (i % 3))
+                    .createdAt(START.plusSeconds(i))
+                    .build());
+        }
+        sensorDataRepository.saveAll(rows);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void recentProjectionMatchesEntityMapping() {
+        List<SensorDataResponse> projected = sensorDataRepository.findRecentByType("temp", Limit.of(100));
+        entityManager.clear();
+        List<SensorDataResponse> mapped = findRecentEntities("temp", 100).stream()
+                .map(SensorDataResponse::fromEntity)
+                .toList();
+
+        assertThat(projected).hasSize(100).containsExactlyElementsOf(mapped);
+        assertThat(projected.get(0).createdAt()).isEqualTo(START.plusSeconds(ROWS - 1));
+    }
+
+    @Test
+    void rangeProjectionMatchesEntityMapping() {
+        LocalDateTime from = START.plusSeconds(1_000);
+        LocalDateTime to = START.plusSeconds(5_000);
+
+        List<SensorDataResponse> projected = sensorDataRepository.findByTypeAndTimeRange("humi", from, to);
+        entityManager.clear();
+        List<SensorDataResponse> mapped = findRangeEntities("humi", from, to).stream()
+                .map(SensorDataResponse::fromEntity)
+                .toList();
+
+        assertThat(projected).hasSize(1_001).containsExactlyElementsOf(mapped);
+    }
+
+    @Test
+    void projectionDoesNotManageEntities() {
+        Session session = entityManager.unwrap(Session.class);
+
+        sensorDataRepository.findByTypeAndTimeRange("temp", START, START.plusSeconds(ROWS));
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+
+        List<SensorData> entities = findRangeEntities("temp", START, START.plusSeconds(ROWS));
+        assertThat(session.getStatistics().getEntityCount()).isEqualTo(entities.size()).isPositive();
+    }
+
+    @Test
+    void compareProjectionAndEntityTimings() {
+        LocalDateTime to = START.plusSeconds(ROWS);
+        long projectionNanos = median(() -> sensorDataRepository.findByTypeAndTimeRange("temp", START, to));
+        long entityNanos = median(() -> findRangeEntities("temp", START, to).stream()
+                .map(SensorDataResponse::fromEntity)
+                .toList());
+
+        log.info("{}건 기간 조회 중앙값 - projection: {}µs, 엔티티 + fromEntity: {}µs",
+                ROWS * 3 / 4, projectionNanos / 1_000, entityNanos / 1_000);
+        assertThat(projectionNanos).isPositive();
+        assertThat(entityNanos).isPositive();
+    }
+
+    // 조회마다 영속성 컨텍스트를 비워 1차 캐시 재사용 없이 측정
+    private long median(Supplier<List<SensorDataResponse>> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        long[] samples = new long[15];
+        for (int i = 0; i < samples.length; i++) {
+            long started = System.nanoTime();
+            assertThat(query.get()).hasSize(ROWS * 3 / 4);
+            samples[i] = System.nanoTime() - started;
+            entityManager.clear();
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    // 변경 전 방식 - 엔티티로 조회한 뒤 서비스에서 응답 레코드로 변환
+    private List<SensorData> findRecentEntities(String type, int limit) {
+        return entityManager.createQuery(
+                        "SELECT s FROM SensorData s WHERE s.type = :type ORDER BY s.createdAt DESC", SensorData.class)
+                .setParameter("type", type)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<SensorData> findRangeEntities(String type, LocalDateTime startTime, LocalDateTime endTime) {
+        return entityManager.createQuery(
+                        "SELECT s FROM SensorData s WHERE s.type = :type AND s.createdAt BETWEEN :startTime AND :endTime " +
+                                "ORDER BY s.createdAt DESC", SensorData.class)
+                .setParameter("type", type)
+                .setParameter("startTime", startTime)
+                .setParameter("endTime", endTime)
+                .getResultList();
+    }
+}
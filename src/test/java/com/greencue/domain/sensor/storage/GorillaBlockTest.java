@@ -0,0 +1,136 @@
+package com.greencue.domain.sensor.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GorillaBlockTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void regularIntervalsRoundTrip() {
+        List<HotSample> samples = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            samples.add(new HotSample(1000 + i, START + i * 5000L, 20f + (i % 7) * 0.25f));
+        }
+
+        assertRoundTrip(samples);
+    }
+
+    @Test
+    void deltaOfDeltaBucketEdgesRoundTrip() {
+        // 각 인코딩 버킷(0 / 8 / 12 / 20 / 64 비트)의 경계값과 그 바로 바깥 값
+        long[] deltaOfDeltas = {0, 1, -1, 127, -128, 128, -129, 2047, -2048, 2048, -2049,
+                524_287, -524_288, 524_288, -524_289, Integer.MAX_VALUE, Long.MIN_VALUE / 4, Long.MAX_VALUE / 4};
+
+        List<HotSample> samples = new ArrayList<>();
+        long timestamp = START;
+        long id = 1;
+        long delta = 0;
+        samples.add(new HotSample(id, timestamp, 1f));
+        for (long dod : deltaOfDeltas) {
+            delta += dod;
+            timestamp += delta;
+            id += dod; // ID 는 증분 자체가 같은 경계값을 거침
+            samples.add(new HotSample(id, timestamp, 1f));
+        }
+
+        assertRoundTrip(samples);
+    }
+
+    @Test
+    void outOfOrderTimestampsTrackMinAndMax() {
+        List<HotSample> samples = List.of(
+                new HotSample(1, START + 10_000, 1f),
+                new HotSample(2, START, 2f),
+                new HotSample(3, START + 20_000, 3f),
+                new HotSample(4, START + 5_000, 4f));
+
+        GorillaBlock block = assertRoundTrip(samples);
+
+        assertThat(block.minTimestamp()).isEqualTo(START);
+        assertThat(block.maxTimestamp()).isEqualTo(START + 20_000);
+    }
+
+    @Test
+    void floatXorPreservesSpecialValuesBitForBit() {
+        float[] values = {21.5f, 21.5f, 21.5f, Float.NaN, Float.NaN, Float.intBitsToFloat(0x7fc0_0001),
+                0f, -0f, -0f, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.MIN_VALUE,
+                Float.MAX_VALUE, -Float.MAX_VALUE, 1f, 1.0000001f, 1f, Float.intBitsToFloat(0xffff_ffff)};
+
+        List<HotSample> samples = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            samples.add(new HotSample(i, START + i * 1000L, values[i]));
+        }
+
+        assertRoundTrip(samples);
+    }
+
+    @Test
+    void reusedBufferIsOverwritten() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) 0xA5);
+        }
+        buffer.clear();
+
+        GorillaBlock block = new GorillaBlock(buffer);
+        List<HotSample> samples = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            HotSample sample = new HotSample(i, START + i * 1000L + (i % 3), i % 2 == 0 ? 10f : 10.5f);
+            assertThat(block.append(sample.id(), sample.timestamp(), sample.value())).isTrue();
+            samples.add(sample);
+        }
+
+        assertSameSamples(block.decode(), samples);
+    }
+
+    @Test
+    void appendRejectsWhenFullAndKeepsEarlierSamples() {
+        GorillaBlock block = new GorillaBlock(ByteBuffer.allocateDirect(64));
+        List<HotSample> accepted = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            HotSample sample = new HotSample(i * 1_000_003L, START + i * 999_983L, (float) Math.sin(i));
+            if (!block.append(sample.id(), sample.timestamp(), sample.value())) {
+                break;
+            }
+            accepted.add(sample);
+        }
+
+        assertThat(accepted).isNotEmpty().hasSizeLessThan(1000);
+        assertThat(block.count()).isEqualTo(accepted.size());
+        assertSameSamples(block.decode(), accepted);
+    }
+
+    @Test
+    void emptyBlockDecodesToEmptyList() {
+        assertThat(new GorillaBlock(ByteBuffer.allocate(64)).decode()).isEmpty();
+    }
+
+    private static GorillaBlock assertRoundTrip(List<HotSample> samples) {
+        GorillaBlock block = new GorillaBlock(ByteBuffer.allocateDirect(64 * 1024));
+        for (HotSample sample : samples) {
+            assertThat(block.append(sample.id(), sample.timestamp(), sample.value())).isTrue();
+        }
+
+        assertThat(block.count()).isEqualTo(samples.size());
+        assertSameSamples(block.decode(), samples);
+        return block;
+    }
+
+    // NaN 페이로드와 -0 을 구분하기 위해 값은 원시 비트로 비교
+    private static void assertSameSamples(List<HotSample> actual, List<HotSample> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).id()).as("id #%d", i).isEqualTo(expected.get(i).id());
+            assertThat(actual.get(i).timestamp()).as("timestamp #%d", i).isEqualTo(expected.get(i).timestamp());
+            assertThat(Float.floatToRawIntBits(actual.get(i).value())).as("value #%d", i)
+                    .isEqualTo(Float.floatToRawIntBits(expected.get(i).value()));
+        }
+    }
+}